@@ -0,0 +1,102 @@
+package bench;
+
+import ds.tree.AssetTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AssetTree (بازیکن -> گروه رنگی -> ملک با ایندکس شناسه) در برابر دو HashMap جاوا
+ * acquire* هر ۲۸ ملک صفحه استاندارد را با یک خانه اضافه و سپس پاک می‌کند (یک بازی کامل)؛
+ * lookup* پرس‌وجوی مالکیت و تعداد خانه‌ها در مسیر اجاره است.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssetTreeBenchmark {
+    private static final String[] GROUPS = {
+            "BROWN", "LIGHT_BLUE", "PINK", "ORANGE", "RED", "YELLOW", "GREEN", "DARK_BLUE", "BLACK", "WHITE"
+    };
+
+    private int[] ids;
+    private String[] names;
+    private String[] colors;
+    private int cursor;
+
+    private AssetTree tree;
+    private HashMap<Integer, int[]> buildings; // id -> {houses, hotel}
+
+    @Setup
+    public void setup() {
+        ids = new int[28];
+        names = new String[28];
+        colors = new String[28];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+            names[i] = "Property " + ids[i];
+            colors[i] = GROUPS[i % GROUPS.length];
+        }
+
+        tree = new AssetTree("Player 1");
+        buildings = new HashMap<>();
+        for (int i = 0; i < ids.length; i += 2) {
+            tree.addProperty(colors[i], names[i], ids[i]);
+            tree.addBuilding(ids[i], false);
+            buildings.put(ids[i], new int[]{1, 0});
+        }
+    }
+
+    @Benchmark
+    public int acquireAssetTree() {
+        AssetTree assets = new AssetTree("Player 2");
+        for (int i = 0; i < ids.length; i++) {
+            assets.addProperty(colors[i], names[i], ids[i]);
+            assets.addBuilding(ids[i], false);
+        }
+        int count = assets.getPropertyCount();
+        assets.clear();
+        return count;
+    }
+
+    @Benchmark
+    public int acquireHashMaps() {
+        HashMap<String, List<Integer>> byColor = new HashMap<>();
+        HashMap<Integer, int[]> byId = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            byColor.computeIfAbsent(colors[i], c -> new ArrayList<>()).add(ids[i]);
+            byId.put(ids[i], new int[]{0, 0});
+            byId.get(ids[i])[0]++;
+        }
+        int count = byId.size();
+        byColor.clear();
+        byId.clear();
+        return count;
+    }
+
+    @Benchmark
+    public int lookupAssetTree() {
+        int id = ids[cursor++ % ids.length];
+        return tree.ownsProperty(id) ? tree.getHouses(id) : -1;
+    }
+
+    @Benchmark
+    public int lookupHashMap() {
+        int[] b = buildings.get(ids[cursor++ % ids.length]);
+        return b != null ? b[0] : -1;
+    }
+}
@@ -0,0 +1,133 @@
+package bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * مقایسه دو خروجی CSV از JMH (-rf csv) و گزارش پسرفت‌ها
+ * برای حالت thrpt امتیاز بیشتر بهتر است؛ برای avgt/sample/ss و gc.alloc.rate.norm کمتر بهتر است.
+ * اگر پسرفتی بیشتر از آستانه (درصد) باشد کد خروج ۱ است، پس در اسکریپت استقرار قابل استفاده است.
+ *
+ * java -cp target/benchmarks.jar bench.CompareBaseline baseline.csv current.csv [thresholdPercent]
+ */
+public class CompareBaseline {
+    private static final String ALLOC_SUFFIX = "gc.alloc.rate.norm";
+    private static final double ALLOC_NOISE_BYTES = 16;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: CompareBaseline <baseline.csv> <current.csv> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        Map<String, Row> baseline = read(args[0]);
+        Map<String, Row> current = read(args[1]);
+
+        int regressions = 0;
+        for (Row now : current.values()) {
+            Row before = baseline.get(now.key);
+            if (before == null || before.score == 0 || Double.isNaN(before.score)) continue;
+
+            boolean alloc = now.benchmark.endsWith(ALLOC_SUFFIX);
+            boolean primary = now.benchmark.indexOf(':') < 0;
+            if (!alloc && !primary) continue; // سایر معیارهای پروفایلر (gc.count و ...) نویز زیادی دارند
+
+            double change = (now.score - before.score) / before.score * 100;
+            boolean higherIsBetter = primary && now.mode.equals("thrpt");
+            double worse = higherIsBetter ? -change : change;
+            boolean regressed = worse > threshold
+                    && !(alloc && Math.abs(now.score - before.score) < ALLOC_NOISE_BYTES);
+
+            if (regressed) regressions++;
+            System.out.printf("%s %-70s %12.3f -> %12.3f %-8s %+7.1f%%%n",
+                    regressed ? "REGRESSION" : "          ", now.key, before.score, now.score, now.unit, change);
+        }
+
+        System.out.println(regressions == 0 ? "No regressions above " + threshold + "%" : regressions + " regression(s) above " + threshold + "%");
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    private static Map<String, Row> read(String file) throws IOException {
+        List<String> lines = Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8);
+        Map<String, Row> rows = new LinkedHashMap<>();
+        if (lines.isEmpty()) return rows;
+
+        // ستون‌های ثابت JMH و سپس یک ستون برای هر پارامتر ("Param: size")
+        List<String> header = split(lines.get(0));
+        int benchmark = header.indexOf("Benchmark");
+        int mode = header.indexOf("Mode");
+        int score = header.indexOf("Score");
+        int unit = header.indexOf("Unit");
+
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i).isEmpty()) continue;
+            List<String> cells = split(lines.get(i));
+            StringBuilder key = new StringBuilder(cells.get(benchmark)).append(' ').append(cells.get(mode));
+            for (int c = 0; c < header.size(); c++) {
+                if (header.get(c).startsWith("Param: ") && c < cells.size() && !cells.get(c).isEmpty()) {
+                    key.append(' ').append(header.get(c).substring(7)).append('=').append(cells.get(c));
+                }
+            }
+            Row row = new Row(key.toString(), cells.get(benchmark), cells.get(mode),
+                    parseScore(cells.get(score)), cells.get(unit));
+            rows.put(row.key, row);
+        }
+        return rows;
+    }
+
+    // JMH اعداد را با Locale سیستم می‌نویسد؛ ممیز اعشار را یکسان می‌کنیم
+    private static double parseScore(String cell) {
+        try {
+            return Double.parseDouble(cell.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static List<String> split(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (ch == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (ch == ',' && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(ch);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private static final class Row {
+        final String key;
+        final String benchmark;
+        final String mode;
+        final double score;
+        final String unit;
+
+        Row(String key, String benchmark, String mode, double score, String unit) {
+            this.key = key;
+            this.benchmark = benchmark;
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package bench;
+
+import engine.BroadcastSink;
+import engine.GameEngine;
+import engine.TurnManager;
+import model.BoardDefinition;
+import model.BoardState;
+import model.GameState;
+import model.Player;
+import model.Property;
+import model.Ruleset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import utils.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * توان عملیاتی و تأخیر GameEngine.executeCommand با یک جریان دستور واقعی
+ * اسکریپت نوبت: ROLL، BUY، BUILD، گاهی TRADE (با مبلغ‌ها و طرف‌های متفاوت) و END.
+ * هر iteration یک بازی است که در @Setup(Level.Iteration) ساخته می‌شود و ساختنش جزو زمان اندازه‌گیری نیست.
+ *
+ * command: هر فراخوانی یک دستور؛ بازیکنان با BANKROLL شروع می‌کنند تا بازی از یک iteration بیشتر دوام بیاورد.
+ *   اگر بازی زودتر تمام شود، فراخوانی‌های بعدی دستوری اجرا نمی‌کنند و در پایان با عنوان idle چاپ می‌شوند؛
+ *   فقط وقتی idle صفر است ops/s همان دستور در ثانیه و gc.alloc.rate.norm (با -prof gc) همان بایت به ازای
+ *   هر دستور است.
+ * bankruptcyGame: هر فراخوانی یک بازی کامل با پول شروع ruleset تا GAME_OVER (حداکثر MAX_GAME_COMMANDS دستور)،
+ *   پس ورشکستگی‌ها (handleBankruptcy) و checkGameOver داخل زمان اندازه‌گیری‌اند. نتیجه زمان هر بازی است؛
+ *   میانگین تعداد دستور هر بازی در پایان چاپ می‌شود.
+ *
+ * پیام‌های همگانی به یک sink دورریز می‌روند و بازی‌های تمام‌شده آرشیو نمی‌شوند.
+ * صدک‌های هر دستور جداگانه در LatencyHistogram جمع و در پایان اجرا چاپ می‌شوند؛ ROLLهایی که به ورشکستگی
+ * رسیده‌اند جدا هم با عنوان BANKRUPT گزارش می‌شوند.
+ *
+ * development: NONE = صفحه خالی، MONOPOLIES = همه گروه‌ها بین بازیکنان تقسیم شده،
+ * HOTELS = همان با هتل روی همه ملک‌ها (اجاره‌های سنگین)
+ * metrics: با false ثبت ServerMetrics خاموش است؛ تفاوت دو حالت سربار اندازه‌گیری به ازای هر دستور است
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dmonopoly.log.level=WARN")
+@State(Scope.Thread)
+public class EngineBenchmark {
+    private static final String[] OPCODES = {"ROLL", "BUY", "BUILD", "TRADE", "END"};
+    private static final int ROLL = 0, BUY = 1, BUILD = 2, TRADE = 3, END = 4;
+    private static final int TRADE_EVERY = 8;     // هر چند نوبت یک معامله
+    // مبلغ‌های معامله (پیشنهاد، درخواست) به نوبت؛ یک‌طرفه، دوطرفه و بزرگ‌تر از پول بعضی بازیکنان
+    private static final int[][] TRADE_AMOUNTS = {{10, 20}, {50, 0}, {0, 50}, {200, 150}, {1000, 0}};
+    // پول شروع در command؛ با اجاره هتل (حداکثر چند هزار در هر فرود) ورشکستگی در چند میلیون دستور
+    // عملاً رخ نمی‌دهد و جمع پول هم از int بیرون نمی‌زند
+    private static final int BANKROLL = 100_000_000;
+    // سقف یک بازی در bankruptcyGame (بازی ۴ نفره روی صفحه خالی گاهی چند میلیون دستور طول می‌کشد)
+    private static final int MAX_GAME_COMMANDS = 5_000_000;
+
+    @Param({"2", "4"})
+    private int players;
+
+    @Param({"NONE", "MONOPOLIES", "HOTELS"})
+    private String development;
+
+    @Param({"true", "false"})
+    private boolean metrics;
+
+    private final Ruleset ruleset = Ruleset.standard();
+    private final DiscardingSink sink = new DiscardingSink();
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPCODES.length];
+    private final LatencyHistogram bankruptRolls = new LatencyHistogram();
+    private String[][] tradeCommands; // [شناسه بازیکن][نوبت معامله]
+
+    private GameState game;
+    private TurnManager turnManager;
+    private GameEngine engine;
+    private int step;
+    private int turns;
+    private long idle;       // فراخوانی‌های command بعد از پایان بازی که دستوری اجرا نکردند
+    private long games;      // بازی‌های bankruptcyGame
+    private long gameCommands;
+    private long unfinished; // بازی‌هایی که به سقف MAX_GAME_COMMANDS رسیدند
+
+    /**
+     * sink دورریز؛ فقط پایان بازی را تشخیص می‌دهد
+     */
+    static final class DiscardingSink implements BroadcastSink {
+        boolean gameOver;
+        long messages;
+
+        @Override
+        public void broadcast(String message) {
+            messages++;
+            if (message.startsWith("GAME_OVER")) gameOver = true;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        for (int i = 0; i < latencies.length; i++) latencies[i] = new LatencyHistogram();
+        tradeCommands = new String[players + 1][];
+        for (int id = 1; id <= players; id++) {
+            tradeCommands[id] = new String[TRADE_AMOUNTS.length];
+            for (int k = 0; k < TRADE_AMOUNTS.length; k++) {
+                int target = (id + k % (players - 1)) % players + 1; // هر بازیکن به جز خودش
+                tradeCommands[id][k] = "TRADE:" + target + ":" + TRADE_AMOUNTS[k][0] + ":" + TRADE_AMOUNTS[k][1];
+            }
+        }
+    }
+
+    // bankruptcyGame با پول شروع ruleset بازی می‌کند تا ورشکستگی رخ دهد؛ command با BANKROLL
+    @Setup(Level.Iteration)
+    public void newGame(BenchmarkParams params) {
+        newGame(!params.getBenchmark().endsWith(".bankruptcyGame"));
+    }
+
+    private void newGame(boolean rich) {
+        game = GameState.newGame(ruleset);
+        for (int id = 1; id <= players; id++) {
+            game.addPlayer(id, "Player " + id);
+            if (rich) game.getPlayer(id).setMoney(BANKROLL);
+        }
+        develop();
+        game.startGame();
+
+        turnManager = new TurnManager(players);
+        sink.gameOver = false;
+        engine = new GameEngine(turnManager, game, sink);
+        engine.setArchiving(false);
+        if (!metrics) engine.setMetrics(null);
+        step = ROLL;
+        turns = 0;
+    }
+
+    // بازی iteration را از رده‌بندی سراسری بیرون می‌برد
+    @TearDown(Level.Iteration)
+    public void closeGame() {
+        engine.close();
+    }
+
+    // تقسیم گروه‌های رنگی بین بازیکنان و ساخت خانه/هتل، بدون عبور از موتور بازی
+    private void develop() {
+        if (development.equals("NONE")) return;
+        BoardDefinition board = game.getDefinition();
+        BoardState state = game.getBoardState();
+        int next = 0;
+        for (int tile = 0; tile < board.getTileCount(); tile++) {
+            Property prop = board.getProperty(tile);
+            if (prop == null) continue;
+
+            int owner = board.isDevelopable(tile) ? board.getGroup(tile) % players + 1 : (next++ % players) + 1;
+            Player player = game.getPlayer(owner);
+
+            state.setOwner(tile, owner);
+            player.getAssetTree().addProperty(prop.getColorGroup(), prop.getName(), tile);
+            player.addAssetValue(prop.getPrice());
+            if (development.equals("HOTELS") && board.isDevelopable(tile)) {
+                for (int h = 0; h < ruleset.getMaxHouses(); h++) state.addHouse(tile);
+                state.setHotel(tile, true);
+                player.getAssetTree().setBuildings(tile, ruleset.getMaxHouses(), true);
+                player.addAssetValue(prop.getBuildCost() * (ruleset.getMaxHouses() + 1));
+            }
+        }
+    }
+
+    @Benchmark
+    public String command() {
+        if (sink.gameOver) {
+            idle++;
+            return null;
+        }
+        return nextCommand();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 50)
+    public int bankruptcyGame() {
+        int commands = 0;
+        while (!sink.gameOver && commands < MAX_GAME_COMMANDS) {
+            nextCommand();
+            commands++;
+        }
+        games++;
+        gameCommands += commands;
+        if (!sink.gameOver) unfinished++;
+        return commands;
+    }
+
+    private String nextCommand() {
+        int playerId = turnManager.getCurrentPlayerIndex() + 1;
+        int op = step;
+        String command;
+        switch (op) {
+            case ROLL: command = "ROLL"; step = BUY; break;
+            case BUY: command = "BUY"; step = BUILD; break;
+            case BUILD: command = "BUILD"; step = turns % TRADE_EVERY == 0 && players > 1 ? TRADE : END; break;
+            case TRADE: command = tradeCommands[playerId][(turns / TRADE_EVERY) % TRADE_AMOUNTS.length]; step = END; break;
+            default: command = "END"; step = ROLL; turns++; break;
+        }
+
+        long start = System.nanoTime();
+        String result = engine.executeCommand(playerId, command);
+        long elapsed = System.nanoTime() - start;
+        latencies[op].record(elapsed);
+        if (op == ROLL && result.endsWith("(BANKRUPT!)")) bankruptRolls.record(elapsed);
+        return result;
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.println();
+        System.out.println("players=" + players + " development=" + development + " metrics=" + metrics
+                + " broadcasts=" + sink.messages + " idle=" + idle);
+        if (games > 0) {
+            System.out.printf("  games=%d commands/game=%.0f unfinished=%d%n", games, (double) gameCommands / games, unfinished);
+        }
+        for (int i = 0; i < OPCODES.length; i++) {
+            System.out.printf("  %-8s %s%n", OPCODES[i], latencies[i].summaryMicros());
+        }
+        System.out.printf("  %-8s %s%n", "BANKRUPT", bankruptRolls.summaryMicros());
+    }
+}
@@ -0,0 +1,72 @@
+package bench;
+
+import ds.graph.MyGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * گراف تراکنش‌ها (ماتریس مجاورت MyGraph) در برابر لیست مجاورت با HashMap های تودرتو
+ * هر عملیات یک تراکنش ثبت و یک مجموع را می‌خواند، مثل TRADE در GameEngine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GraphBenchmark {
+    @Param({"4", "64"})
+    private int players;
+
+    private int[] from;
+    private int[] to;
+    private int cursor;
+
+    private MyGraph graph;
+    private HashMap<Integer, HashMap<Integer, Integer>> adjacency;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        from = new int[1024];
+        to = new int[1024];
+        for (int i = 0; i < from.length; i++) {
+            from[i] = random.nextInt(players);
+            to[i] = random.nextInt(players);
+        }
+
+        graph = new MyGraph(players);
+        adjacency = new HashMap<>();
+        for (int i = 0; i < players; i++) {
+            graph.addNode(i + 1, "Player " + (i + 1));
+            adjacency.put(i, new HashMap<>());
+        }
+    }
+
+    @Benchmark
+    public int tradeMyGraph() {
+        int i = cursor++ & 1023;
+        graph.addTransaction(from[i], to[i], 10);
+        return graph.getTransactionAmount(to[i], from[i]);
+    }
+
+    @Benchmark
+    public int tradeHashMapAdjacency() {
+        int i = cursor++ & 1023;
+        adjacency.get(from[i]).merge(to[i], 10, Integer::sum);
+        return adjacency.get(to[i]).getOrDefault(from[i], 0);
+    }
+}
@@ -0,0 +1,96 @@
+package bench;
+
+import ds.heap.HeapHandle;
+import ds.heap.MyMinMaxHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyMinMaxHeap در برابر دو PriorityQueue (یکی برای کمینه و یکی برای بیشینه)
+ * الگوی کار همان NetWorthLeaderboard است: تغییر ارزش یک بازیکن و سپس خواندن ثروتمندترین و فقیرترین.
+ * PriorityQueue کلید قابل تغییر ندارد، پس به‌روزرسانی در آن remove + add است.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HeapBenchmark {
+    @Param({"4", "256", "65536"})
+    private int size;
+
+    private int[] deltas;
+    private int cursor;
+
+    private MyMinMaxHeap heap;
+    private HeapHandle[] handles;
+
+    private PriorityQueue<int[]> minQueue;
+    private PriorityQueue<int[]> maxQueue;
+    private int[][] entries; // {key, id}
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        deltas = new int[1024];
+        for (int i = 0; i < deltas.length; i++) deltas[i] = random.nextInt(401) - 200;
+
+        heap = new MyMinMaxHeap(size);
+        handles = new HeapHandle[size];
+        minQueue = new PriorityQueue<>(size, Comparator.comparingInt(e -> e[0]));
+        maxQueue = new PriorityQueue<>(size, Comparator.comparingInt((int[] e) -> e[0]).reversed());
+        entries = new int[size][];
+        for (int i = 0; i < size; i++) {
+            int key = 1500 + random.nextInt(1000);
+            handles[i] = heap.insert(key, Integer.valueOf(i));
+            entries[i] = new int[]{key, i};
+            minQueue.add(entries[i]);
+            maxQueue.add(entries[i]);
+        }
+    }
+
+    @Benchmark
+    public int updateAndPeekMinMaxHeap() {
+        int i = cursor++;
+        HeapHandle handle = handles[i % size];
+        heap.updateKey(handle, handle.key + deltas[i & 1023]);
+        return heap.peekMin().key + heap.peekMax().key;
+    }
+
+    @Benchmark
+    public int updateAndPeekPriorityQueues() {
+        int i = cursor++;
+        int[] entry = entries[i % size];
+        minQueue.remove(entry);
+        maxQueue.remove(entry);
+        entry[0] += deltas[i & 1023];
+        minQueue.add(entry);
+        maxQueue.add(entry);
+        return minQueue.peek()[0] + maxQueue.peek()[0];
+    }
+
+    @Benchmark
+    public int peekMinMaxHeap() {
+        return heap.peekMin().key + heap.peekMax().key;
+    }
+
+    @Benchmark
+    public int peekPriorityQueues() {
+        return minQueue.peek()[0] + maxQueue.peek()[0];
+    }
+}
@@ -0,0 +1,124 @@
+package bench;
+
+import ds.map.IntIntMap;
+import ds.map.MyHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * مقایسه MyHashMap و IntIntMap با HashMap<Integer, ?> جاوا
+ * get* و remove* توان عملیاتی را نشان می‌دهند.
+ * fill* یک نقشه کامل با size عنصر می‌سازد؛ با -prof gc مقدار gc.alloc.rate.norm
+ * تقسیم بر size همان تعداد بایت به ازای هر عنصر است.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntMapBenchmark {
+    @Param({"64", "4096", "262144"})
+    private int size;
+
+    private int[] keys;
+    private int mask;
+    private int cursor;
+    private Object value;
+
+    private MyHashMap myMap;
+    private IntIntMap intMap;
+    private HashMap<Integer, Object> jdkMap;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        keys = new int[size];
+        mask = size - 1;
+        value = new Object();
+        myMap = new MyHashMap(16);
+        intMap = new IntIntMap(16, -1);
+        jdkMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(); // شامل کلیدهای منفی
+            myMap.put(keys[i], value);
+            intMap.put(keys[i], i);
+            jdkMap.put(keys[i], value);
+        }
+    }
+
+    private int nextKey() {
+        return keys[cursor++ & mask];
+    }
+
+    @Benchmark
+    public Object getMyHashMap() {
+        return myMap.get(nextKey());
+    }
+
+    @Benchmark
+    public int getIntIntMap() {
+        return intMap.get(nextKey());
+    }
+
+    @Benchmark
+    public Object getJdkHashMap() {
+        return jdkMap.get(nextKey());
+    }
+
+    @Benchmark
+    public Object removeAndPutMyHashMap() {
+        int key = nextKey();
+        Object old = myMap.remove(key);
+        myMap.put(key, old);
+        return old;
+    }
+
+    @Benchmark
+    public Object removeAndPutJdkHashMap() {
+        int key = nextKey();
+        Object old = jdkMap.remove(key);
+        jdkMap.put(key, old);
+        return old;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MyHashMap fillMyHashMap() {
+        MyHashMap map = new MyHashMap(16);
+        for (int key : keys) map.put(key, value);
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public IntIntMap fillIntIntMap() {
+        IntIntMap map = new IntIntMap(16, -1);
+        for (int i = 0; i < keys.length; i++) map.put(keys[i], i);
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public HashMap<Integer, Object> fillJdkHashMap() {
+        HashMap<Integer, Object> map = new HashMap<>();
+        for (int key : keys) map.put(key, value);
+        return map;
+    }
+}
@@ -0,0 +1,255 @@
+package bench;
+
+import utils.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * مولد بار بدون رابط گرافیکی که پروتکل client.NetworkManager را صحبت می‌کند
+ * هر نشست یک بازیکن است: با TURN:خودش ROLL، بعد BUY و END می‌فرستد؛ بعد از GAME_OVER دوباره وصل می‌شود
+ * و در اتاق تازه‌ای بازی می‌کند تا پایان زمان، پس بار سرور در تمام مدت اجرا ثابت می‌ماند.
+ * سرور هر maxPlayers اتصال را در یک اتاق می‌گذارد، پس تعداد اتاق‌ها = اتصال‌ها / ۴ (در ruleset استاندارد).
+ *
+ * برای هر دستور دو تأخیر ثبت می‌شود:
+ *   response  = از ارسال دستور تا رسیدن پاسخ آن
+ *   broadcast = از ارسال دستور تا رسیدن اولین پیام همگانی که همان دستور ایجاد کرده (MOVED، OWNER، TURN، ...)
+ *
+ * java -cp target/benchmarks.jar bench.LoadGenerator --connections 4000 --duration 60 [--host localhost]
+ *      [--port 8080] [--think 0] [--ramp 0]
+ * think: مکث هر بازیکن قبل از هر دستور (میلی‌ثانیه)، ramp: فاصله بین اتصال‌ها (میلی‌ثانیه)
+ */
+public class LoadGenerator {
+    private static final String[] OPCODES = {"ROLL", "BUY", "END"};
+    private static final int ROLL = 0, BUY = 1, END = 2;
+
+    // پیام‌هایی که سرور به همه می‌فرستد؛ هر خط دیگر پاسخ مستقیم به دستور همین نشست است
+    private static final String[] BROADCAST_PREFIXES = {
+            "TURN:", "MOVED:", "STATS:", "LOG:", "OWNER:", "HOUSE:", "MORTGAGE_STATE:", "GAME_OVER:", "GAME_STARTED", "WELCOME"
+    };
+
+    private final String host;
+    private final int port;
+    private final long thinkMillis;
+
+    private final LatencyHistogram connect = new LatencyHistogram();
+    private final LatencyHistogram[] response = new LatencyHistogram[OPCODES.length];
+    private final LatencyHistogram[] broadcast = new LatencyHistogram[OPCODES.length];
+    // پاسخ ROLL فقط در بازه گزارش جاری؛ گزارش دوره‌ای آن را با یک هیستوگرام خالی عوض می‌کند
+    private final AtomicReference<LatencyHistogram> rollInterval = new AtomicReference<>(new LatencyHistogram());
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicInteger connected = new AtomicInteger();   // نشست‌هایی که دست‌کم یک بار وصل شده‌اند
+    private final AtomicInteger reconnects = new AtomicInteger();  // اتصال دوباره بعد از GAME_OVER
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger gamesOver = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    LoadGenerator(String host, int port, long thinkMillis) {
+        this.host = host;
+        this.port = port;
+        this.thinkMillis = thinkMillis;
+        for (int i = 0; i < OPCODES.length; i++) {
+            response[i] = new LatencyHistogram();
+            broadcast[i] = new LatencyHistogram();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = "localhost";
+        int port = 8080;
+        int connections = 400;
+        int duration = 60;
+        long think = 0;
+        long ramp = 0;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--host": host = args[i + 1]; break;
+                case "--port": port = Integer.parseInt(args[i + 1]); break;
+                case "--connections": connections = Integer.parseInt(args[i + 1]); break;
+                case "--duration": duration = Integer.parseInt(args[i + 1]); break;
+                case "--think": think = Long.parseLong(args[i + 1]); break;
+                case "--ramp": ramp = Long.parseLong(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        LoadGenerator generator = new LoadGenerator(host, port, think);
+        generator.run(connections, duration, ramp);
+    }
+
+    void run(int connections, int durationSeconds, long rampMillis) throws InterruptedException {
+        System.out.printf("connecting %d sessions to %s:%d for %ds%n", connections, host, port, durationSeconds);
+        CountDownLatch done = new CountDownLatch(connections);
+        List<Thread> sessions = new ArrayList<>(connections);
+        long start = System.nanoTime();
+
+        // هر نشست یک ترد مجازی با سوکت مسدودشونده است؛ هزاران نشست روی چند ترد سیستم‌عامل اجرا می‌شوند
+        for (int i = 0; i < connections; i++) {
+            sessions.add(Thread.ofVirtual().name("session-" + i).start(() -> {
+                try {
+                    session();
+                } finally {
+                    done.countDown();
+                }
+            }));
+            if (rampMillis > 0) Thread.sleep(rampMillis);
+        }
+
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long lastCommands = 0;
+        long lastReport = System.nanoTime();
+        while (System.nanoTime() < end && done.getCount() > 0) {
+            done.await(Math.min(5_000, TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime()) + 1), TimeUnit.MILLISECONDS);
+            long now = System.nanoTime();
+            long total = commands.get();
+            LatencyHistogram roll = rollInterval.getAndSet(new LatencyHistogram());
+            System.out.printf("[%5.1fs] connected=%d reconnects=%d failed=%d games_over=%d commands/s=%.0f interval roll p99=%.1fus%n",
+                    (now - start) / 1e9, connected.get(), reconnects.get(), failed.get(), gamesOver.get(),
+                    (total - lastCommands) / ((now - lastReport) / 1e9), roll.getValueAtPercentile(99) / 1000.0);
+            lastCommands = total;
+            lastReport = now;
+        }
+
+        running = false;
+        for (Thread session : sessions) session.interrupt();
+        done.await(5, TimeUnit.SECONDS);
+        report((System.nanoTime() - start) / 1e9);
+    }
+
+    // یک بازیکن تا پایان زمان؛ هر GAME_OVER یعنی اتصال تازه و اتاق تازه
+    private void session() {
+        boolean first = true;
+        while (running) {
+            long t0 = System.nanoTime();
+            try (Socket socket = new Socket()) {
+                socket.setTcpNoDelay(true);
+                socket.connect(new InetSocketAddress(host, port), 30_000);
+                connect.record(System.nanoTime() - t0);
+                if (first) connected.incrementAndGet();
+                else reconnects.incrementAndGet();
+                first = false;
+                if (!play(socket)) return;
+            } catch (IOException e) {
+                if (running) failed.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // true اگر بازی تمام شد و نشست باید دوباره وصل شود
+    private boolean play(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        socket.setSoTimeout(1_000); // تا پایان زمان اجرا بررسی شود
+
+        String myTurn = null;
+        int pending = -1;        // دستوری که منتظر پاسخش هستیم
+        boolean broadcastSeen = true;
+        long sentAt = 0;
+
+        while (running) {
+            String line;
+            try {
+                line = in.readLine();
+            } catch (SocketTimeoutException e) {
+                continue;
+            }
+            if (line == null) return false;
+            long now = System.nanoTime();
+            messages.incrementAndGet();
+
+            if (line.startsWith("WELCOME Player ")) {
+                myTurn = "TURN:" + line.substring("WELCOME Player ".length());
+                continue;
+            }
+
+            if (isBroadcast(line)) {
+                if (!broadcastSeen && pending >= 0) {
+                    broadcast[pending].record(now - sentAt);
+                    broadcastSeen = true;
+                }
+                if (line.startsWith("GAME_OVER:")) {
+                    gamesOver.incrementAndGet();
+                    return true;
+                }
+                if (line.equals(myTurn)) {
+                    pending = ROLL;
+                    sentAt = send(out, "ROLL");
+                    broadcastSeen = false;
+                }
+                continue;
+            }
+
+            // پاسخ مستقیم دستور قبلی؛ دستور بعدی اسکریپت نوبت را بفرست
+            if (pending < 0) continue;
+            response[pending].record(now - sentAt);
+            if (pending == ROLL) rollInterval.get().record(now - sentAt);
+            if (!broadcastSeen) broadcastSeen = true; // دستوری که پیام همگانی نداشت
+            commands.incrementAndGet();
+
+            if (pending == ROLL) {
+                pending = BUY;
+                sentAt = send(out, "BUY");
+                broadcastSeen = false;
+            } else if (pending == BUY) {
+                pending = END;
+                sentAt = send(out, "END");
+                broadcastSeen = false;
+            } else {
+                pending = -1;
+            }
+        }
+        return false;
+    }
+
+    private long send(BufferedWriter out, String command) throws IOException {
+        if (thinkMillis > 0) {
+            try {
+                Thread.sleep(thinkMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long sentAt = System.nanoTime();
+        out.write(command);
+        out.newLine();
+        out.flush();
+        return sentAt;
+    }
+
+    private static boolean isBroadcast(String line) {
+        for (String prefix : BROADCAST_PREFIXES) {
+            if (line.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    private void report(double seconds) {
+        System.out.println();
+        System.out.printf("sessions connected=%d reconnects=%d failed=%d games_over=%d elapsed=%.1fs%n",
+                connected.get(), reconnects.get(), failed.get(), gamesOver.get(), seconds);
+        System.out.printf("commands=%d (%.0f/s) messages received=%d (%.0f/s)%n",
+                commands.get(), commands.get() / seconds, messages.get(), messages.get() / seconds);
+        System.out.println("connect            " + connect.summaryMicros());
+        for (int i = 0; i < OPCODES.length; i++) {
+            System.out.printf("%-5s response     %s%n", OPCODES[i], response[i].summaryMicros());
+            System.out.printf("%-5s broadcast    %s%n", OPCODES[i], broadcast[i].summaryMicros());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package bench;
+
+import ds.tree.MyBST;
+import ds.tree.TreeNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBST (درخت AVL) در برابر TreeMap جاوا
+ * floor همان پرس‌وجوی «گران‌ترین ملک زیر بودجه» در UnownedPropertyIndex است.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderedMapBenchmark {
+    @Param({"32", "4096", "262144"})
+    private int size;
+
+    private int[] keys;
+    private int[] probes;
+    private int mask;
+    private int cursor;
+    private Object value;
+
+    private MyBST bst;
+    private TreeMap<Integer, Object> treeMap;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        keys = new int[size];
+        probes = new int[size];
+        mask = size - 1;
+        value = new Object();
+        bst = new MyBST();
+        treeMap = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(size * 16);
+            probes[i] = random.nextInt(size * 16);
+            bst.put(keys[i], value);
+            treeMap.put(keys[i], value);
+        }
+    }
+
+    private int next() {
+        return cursor++ & mask;
+    }
+
+    @Benchmark
+    public Object getMyBST() {
+        return bst.get(keys[next()]);
+    }
+
+    @Benchmark
+    public Object getTreeMap() {
+        return treeMap.get(keys[next()]);
+    }
+
+    @Benchmark
+    public TreeNode floorMyBST() {
+        return bst.floor(probes[next()]);
+    }
+
+    @Benchmark
+    public Map.Entry<Integer, Object> floorTreeMap() {
+        return treeMap.floorEntry(probes[next()]);
+    }
+
+    @Benchmark
+    public boolean deleteAndPutMyBST() {
+        int key = keys[next()];
+        boolean removed = bst.delete(key);
+        bst.put(key, value);
+        return removed;
+    }
+
+    @Benchmark
+    public Object deleteAndPutTreeMap() {
+        int key = keys[next()];
+        Object old = treeMap.remove(key);
+        treeMap.put(key, value);
+        return old;
+    }
+}
@@ -0,0 +1,106 @@
+package bench;
+
+import ds.queue.MyQueue;
+import ds.stack.MyStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyQueue و MyStack در برابر ArrayDeque جاوا
+ * steady* یک صف/پشته با depth عنصر را در حالت پایدار نگه می‌دارد (یک افزودن و یک برداشتن)؛
+ * burst* depth عنصر را پشت سر هم اضافه و خالی می‌کند، مثل انفجار پیام‌ها هنگام ورشکستگی.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueStackBenchmark {
+    @Param({"16", "1024"})
+    private int depth;
+
+    private Object item;
+    private MyQueue myQueue;
+    private MyStack myStack;
+    private ArrayDeque<Object> jdkQueue;
+    private ArrayDeque<Object> jdkStack;
+
+    @Setup
+    public void setup() {
+        item = new Object();
+        myQueue = new MyQueue();
+        myStack = new MyStack();
+        jdkQueue = new ArrayDeque<>();
+        jdkStack = new ArrayDeque<>();
+        for (int i = 0; i < depth; i++) {
+            myQueue.enqueue(item);
+            myStack.push(item);
+            jdkQueue.offer(item);
+            jdkStack.push(item);
+        }
+    }
+
+    @Benchmark
+    public Object steadyMyQueue() {
+        myQueue.enqueue(item);
+        return myQueue.dequeue();
+    }
+
+    @Benchmark
+    public Object steadyArrayDequeQueue() {
+        jdkQueue.offer(item);
+        return jdkQueue.poll();
+    }
+
+    @Benchmark
+    public Object steadyMyStack() {
+        myStack.push(item);
+        return myStack.pop();
+    }
+
+    @Benchmark
+    public Object steadyArrayDequeStack() {
+        jdkStack.push(item);
+        return jdkStack.pop();
+    }
+
+    @Benchmark
+    public Object burstMyQueue() {
+        MyQueue queue = new MyQueue();
+        for (int i = 0; i < depth; i++) queue.enqueue(item);
+        Object last = null;
+        while (!queue.isEmpty()) last = queue.dequeue();
+        return last;
+    }
+
+    @Benchmark
+    public Object burstArrayDeque() {
+        ArrayDeque<Object> queue = new ArrayDeque<>();
+        for (int i = 0; i < depth; i++) queue.offer(item);
+        Object last = null;
+        while (!queue.isEmpty()) last = queue.poll();
+        return last;
+    }
+
+    @Benchmark
+    public Object burstMyStack() {
+        MyStack stack = new MyStack();
+        for (int i = 0; i < depth; i++) stack.push(item);
+        Object last = null;
+        while (!stack.isEmpty()) last = stack.pop();
+        return last;
+    }
+}
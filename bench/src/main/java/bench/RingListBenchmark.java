@@ -0,0 +1,78 @@
+package bench;
+
+import ds.list.LinkedList;
+import ds.list.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LinkedList.move (حرکت مهره روی لیست حلقوی) در برابر محاسبه اندیس روی آرایه
+ * steps مثل تاس بین ۲ و ۱۲ است؛ size=40 همان صفحه بازی است.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RingListBenchmark {
+    @Param({"40", "1024"})
+    private int size;
+
+    private LinkedList ring;
+    private Node node;
+    private Object[] tiles;
+    private int position;
+    private int[] rolls;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        ring = new LinkedList();
+        tiles = new Object[size];
+        for (int i = 0; i < size; i++) {
+            tiles[i] = Integer.valueOf(i);
+            ring.add(tiles[i]);
+        }
+        node = ring.getHead();
+
+        Random random = new Random(42);
+        rolls = new int[1024];
+        for (int i = 0; i < rolls.length; i++) rolls[i] = 2 + random.nextInt(6) + random.nextInt(6);
+    }
+
+    private int nextRoll() {
+        return rolls[cursor++ & 1023];
+    }
+
+    @Benchmark
+    public Object moveLinkedList() {
+        node = ring.move(node, nextRoll());
+        return node.data;
+    }
+
+    @Benchmark
+    public Object moveArrayIndex() {
+        position = (position + nextRoll()) % size;
+        return tiles[position];
+    }
+
+    @Benchmark
+    public LinkedList buildLinkedList() {
+        LinkedList list = new LinkedList();
+        for (Object tile : tiles) list.add(tile);
+        return list;
+    }
+}
@@ -4,7 +4,6 @@ import client.gui.GameLayout;
 import client.gui.TradeDialog;
 import utils.Constants;
 import javafx.application.Application;
-import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.layout.HBox; // برای چیدمان دکمه‌ها
@@ -12,6 +11,7 @@ import javafx.stage.Stage;
 
 public class ClientMain extends Application {
     private NetworkManager networkManager;
+    private InboundBatcher inbound;
     private GameLayout root;
     private int myPlayerId;
     private boolean isMyTurn = false;
@@ -26,11 +26,15 @@ public class ClientMain extends Application {
     public void start(Stage primaryStage) {
         root = new GameLayout();
 
+        // پیام‌ها در هر pulse یک‌جا اعمال می‌شوند (InboundBatcher)، نه یک runLater برای هر خط
+        inbound = new InboundBatcher(this::handleServerMessage);
+        inbound.start();
+
         // اتصال به سرور با استفاده از Constants
         networkManager = new NetworkManager(
                 Constants.HOST,
                 Constants.PORT,
-                message -> Platform.runLater(() -> handleServerMessage(message))
+                inbound::offer
         );
 
         setupButtons();
@@ -154,7 +158,8 @@ public class ClientMain extends Application {
                         pId - 1,
                         parts[2],
                         Integer.parseInt(parts[3]),
-                        Integer.parseInt(parts[4])
+                        Integer.parseInt(parts[4]),
+                        parts.length > 5 ? Integer.parseInt(parts[5]) : Integer.parseInt(parts[3])
                 );
             } catch (Exception e) {
                 System.err.println("Error parsing STATS: " + message);
@@ -197,7 +202,9 @@ public class ClientMain extends Application {
 
     @Override
     public void stop() {
+        if (inbound != null) inbound.stop();
         if (networkManager != null) networkManager.close();
+        if (root != null) root.getLogPanel().close();
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,91 @@
+package client;
+
+import ds.queue.MpscQueue;
+import javafx.animation.AnimationTimer;
+
+import java.util.BitSet;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * صف پیام‌های ورودی سرور و اعمال دسته‌ای آن‌ها روی رابط کاربری
+ * ترد شبکه فقط پیام را در صف می‌گذارد؛ AnimationTimer در هر pulse همه پیام‌های رسیده را یک‌جا روی ترد FX
+ * اعمال می‌کند، پس یک رگبار (مثل ورشکستگی که برای هر ملک دو پیام می‌فرستد) به‌جای صدها runLater
+ * فقط یک layout دارد.
+ * پیام‌هایی که فقط آخرین مقدارشان مهم است (STATS هر بازیکن، HOUSE هر خانه) در همان دسته ادغام می‌شوند؛
+ * بقیه به ترتیب رسیدن اعمال می‌شوند.
+ */
+public class InboundBatcher extends AnimationTimer {
+    private static final int CAPACITY = 8192;
+    // سقف پیام در هر pulse تا یک رگبار خیلی بزرگ فریم را طولانی نکند؛ باقی در pulse بعدی
+    private static final int MAX_BATCH = 1024;
+
+    private final MpscQueue inbox = new MpscQueue(CAPACITY);
+    private final Consumer<String> handler;
+    private final String[] batch = new String[MAX_BATCH];
+    private final BitSet statsSeen = new BitSet();
+    private final BitSet housesSeen = new BitSet();
+    private int size;
+
+    public InboundBatcher(Consumer<String> handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * از ترد شبکه؛ اگر صف پر باشد منتظر می‌ماند تا ترد FX خالی کند (پیام وضعیت نباید گم شود)
+     */
+    public void offer(String message) {
+        while (!inbox.offer(message)) {
+            LockSupport.parkNanos(1_000_000);
+        }
+    }
+
+    @Override
+    public void handle(long now) {
+        if (inbox.isEmpty()) return;
+        size = 0;
+        inbox.drain(this::add, MAX_BATCH);
+        collapse();
+
+        for (int i = 0; i < size; i++) {
+            String message = batch[i];
+            batch[i] = null;
+            if (message != null) handler.accept(message);
+        }
+    }
+
+    private void add(Object message) {
+        batch[size++] = (String) message;
+    }
+
+    // از آخر به اول: STATS یا HOUSE قبلی همان بازیکن/خانه با نسخه بعدی‌اش جایگزین شده و حذف می‌شود
+    private void collapse() {
+        statsSeen.clear();
+        housesSeen.clear();
+        for (int i = size - 1; i >= 0; i--) {
+            String message = batch[i];
+            if (message.startsWith("STATS:")) {
+                if (seenBefore(statsSeen, message)) batch[i] = null;
+            } else if (message.startsWith("HOUSE:")) {
+                if (seenBefore(housesSeen, message)) batch[i] = null;
+            }
+        }
+    }
+
+    // کلید عدد بعد از اولین ':' است؛ پیام بدشکل ادغام نمی‌شود
+    private static boolean seenBefore(BitSet seen, String message) {
+        int key = 0;
+        int i = message.indexOf(':') + 1;
+        int start = i;
+        while (i < message.length() && message.charAt(i) != ':') {
+            char c = message.charAt(i++);
+            if (c < '0' || c > '9') return false;
+            key = key * 10 + (c - '0');
+        }
+        if (i == start || key > 1 << 16) return false;
+
+        if (seen.get(key)) return true;
+        seen.set(key);
+        return false;
+    }
+}
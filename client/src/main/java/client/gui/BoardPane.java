@@ -40,7 +40,7 @@ public class BoardPane extends Pane {
     // تغییر رنگ دور خانه (مالکیت)
     public void setTileOwner(int tileIndex, int playerIndex) {
         if (tileIndex < 0 || tileIndex >= 40) return;
-        Color[] pColors = {Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE};
+        Color[] pColors = BoardTiles.PLAYER_COLORS;
         // اگر -1 باشد یعنی بی‌مالک (رنگ مشکی یا شفاف)
         Color ownerColor = (playerIndex >= 0 && playerIndex < 4) ? pColors[playerIndex] : Color.BLACK;
 
@@ -102,7 +102,7 @@ public class BoardPane extends Pane {
 
     private void drawBoard() {
         for (int i = 0; i < 40; i++) {
-            double[] coords = getTileCoordinates(i);
+            double[] coords = BoardTiles.getTileCoordinates(i);
             StackPane tileContainer = new StackPane();
             tileContainer.setLayoutX(coords[0]);
             tileContainer.setLayoutY(coords[1]);
@@ -113,15 +113,15 @@ public class BoardPane extends Pane {
 
             // پس‌زمینه
             Rectangle bg = new Rectangle(TILE_SIZE, TILE_SIZE);
-            bg.setFill(getTileBackgroundColor(i));
+            bg.setFill(BoardTiles.getTileBackgroundColor(i));
             bg.setStroke(Color.BLACK);
             bg.setStrokeWidth(0.5);
             tileContainer.getChildren().add(bg);
 
             // نوار رنگی و کانتینر خانه
-            if (isProperty(i)) {
+            if (BoardTiles.isProperty(i)) {
                 Rectangle colorBar = new Rectangle(TILE_SIZE, TILE_SIZE / 4);
-                colorBar.setFill(getTileColor(i));
+                colorBar.setFill(BoardTiles.getTileColor(i));
                 colorBar.setStroke(Color.BLACK);
                 colorBar.setStrokeWidth(0.5);
                 tileContainer.getChildren().add(colorBar);
@@ -140,29 +140,29 @@ public class BoardPane extends Pane {
             VBox content = new VBox(2);
             content.setAlignment(Pos.CENTER);
             content.setPrefSize(TILE_SIZE, TILE_SIZE);
-            if (isProperty(i)) content.setPadding(new Insets(15, 2, 2, 2));
+            if (BoardTiles.isProperty(i)) content.setPadding(new Insets(15, 2, 2, 2));
             else content.setPadding(new Insets(2));
 
-            if (!getTileIcon(i).isEmpty()) {
-                Label iconLbl = new Label(getTileIcon(i));
+            if (!BoardTiles.getTileIcon(i).isEmpty()) {
+                Label iconLbl = new Label(BoardTiles.getTileIcon(i));
                 iconLbl.setStyle("-fx-font-size: 18px;");
                 // رنگ‌بندی آیکون
                 if (i == 7 || i == 22 || i == 36) iconLbl.setTextFill(Color.ORANGERED); // Chance
                 else if (i == 2 || i == 17 || i == 33) iconLbl.setTextFill(Color.DEEPSKYBLUE); // Chest
-                else if (isRailroad(i)) iconLbl.setTextFill(Color.BLACK);
+                else if (BoardTiles.isRailroad(i)) iconLbl.setTextFill(Color.BLACK);
                 else if (i == 12) iconLbl.setTextFill(Color.GOLDENROD);
                 else if (i == 28) iconLbl.setTextFill(Color.DARKBLUE);
                 content.getChildren().add(iconLbl);
             }
 
-            Label nameLbl = new Label(getTileName(i));
+            Label nameLbl = new Label(BoardTiles.getTileName(i));
             nameLbl.setFont(Font.font("Arial Narrow", FontWeight.BOLD, 10));
             nameLbl.setWrapText(true);
             nameLbl.setTextAlignment(TextAlignment.CENTER);
             nameLbl.setMaxWidth(TILE_SIZE - 4);
             content.getChildren().add(nameLbl);
 
-            int price = getTilePrice(i);
+            int price = BoardTiles.getTilePrice(i);
             if (price > 0) {
                 Label priceLbl = new Label("$" + price);
                 priceLbl.setFont(Font.font("Arial", FontWeight.NORMAL, 9));
@@ -197,9 +197,8 @@ public class BoardPane extends Pane {
 
     private void initPlayerTokens() {
         playerTokens = new Circle[4];
-        Color[] colors = {Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE};
         for (int i = 0; i < 4; i++) {
-            playerTokens[i] = new Circle(8, colors[i]);
+            playerTokens[i] = new Circle(8, BoardTiles.PLAYER_COLORS[i]);
             playerTokens[i].setStroke(Color.WHITE);
             playerTokens[i].setStrokeWidth(2);
             playerTokens[i].setVisible(false);
@@ -210,77 +209,11 @@ public class BoardPane extends Pane {
     public void updateTokenPosition(int playerIndex, int tileIndex) {
         if (playerIndex < 0 || playerIndex >= 4) return;
         playerTokens[playerIndex].setVisible(true);
-        double[] coords = getTileCoordinates(tileIndex);
+        double[] coords = BoardTiles.getTileCoordinates(tileIndex);
         double offsetX = (playerIndex % 2 == 0) ? TILE_SIZE * 0.25 : TILE_SIZE * 0.75;
         double offsetY = (playerIndex < 2) ? TILE_SIZE * 0.25 : TILE_SIZE * 0.75;
         playerTokens[playerIndex].setCenterX(coords[0] + offsetX);
         playerTokens[playerIndex].setCenterY(coords[1] + offsetY);
         playerTokens[playerIndex].toFront();
     }
-
-    // --- متدهای کمکی و ثابت‌ها ---
-    private int getTilePrice(int i) {
-        if (isRailroad(i)) return 200;
-        if (isUtility(i)) return 150;
-        if (isProperty(i)) return (i + 1) * 10 + 50;
-        return 0;
-    }
-
-    private String getTileIcon(int i) {
-        if (i == 2 || i == 17 || i == 33) return "📦";
-        if (i == 7 || i == 22 || i == 36) return "?";
-        if (i == 5 || i == 15 || i == 25 || i == 35) return "🚆";
-        if (i == 12) return "💡";
-        if (i == 28) return "💧";
-        if (i == 38 || i == 4) return "💎";
-        if (i == 10) return "⛓️";
-        if (i == 20) return "🚗";
-        if (i == 30) return "👮";
-        if (i == 0) return "⬅";
-        return "";
-    }
-
-    private boolean isProperty(int i) { return !isCorner(i) && !isSpecial(i) && !isRailroad(i) && !isUtility(i); }
-    private boolean isCorner(int i) { return i % 10 == 0; }
-    private boolean isRailroad(int i) { return i == 5 || i == 15 || i == 25 || i == 35; }
-    private boolean isUtility(int i) { return i == 12 || i == 28; }
-    private boolean isSpecial(int i) { return i == 2 || i == 7 || i == 17 || i == 22 || i == 33 || i == 36 || i == 4 || i == 38; }
-
-    private Color getTileBackgroundColor(int i) {
-        if (isCorner(i)) return Color.web("#D8E6F3");
-        if (isRailroad(i)) return Color.web("#F0F0F0");
-        return Color.WHITE;
-    }
-
-    private Color getTileColor(int index) {
-        if (index == 1 || index == 3) return Color.web("#8B4513");
-        if (index == 6 || index == 8 || index == 9) return Color.web("#87CEEB");
-        if (index == 11 || index == 13 || index == 14) return Color.web("#FF69B4");
-        if (index == 16 || index == 18 || index == 19) return Color.web("#FFA500");
-        if (index == 21 || index == 23 || index == 24) return Color.web("#FF0000");
-        if (index == 26 || index == 27 || index == 29) return Color.web("#FFFF00");
-        if (index == 31 || index == 32 || index == 34) return Color.web("#008000");
-        if (index == 37 || index == 39) return Color.web("#0000FF");
-        return Color.TRANSPARENT;
-    }
-
-    private double[] getTileCoordinates(int index) {
-        double endCoord = BOARD_SIZE - TILE_SIZE;
-        double x = 0, y = 0;
-        if (index < 10) { x = endCoord - (index * TILE_SIZE); y = endCoord; }
-        else if (index < 20) { x = 0; y = endCoord - ((index - 10) * TILE_SIZE); }
-        else if (index < 30) { x = (index - 20) * TILE_SIZE; y = 0; }
-        else { x = endCoord; y = (index - 30) * TILE_SIZE; }
-        return new double[]{x, y};
-    }
-
-    private String getTileName(int index) {
-        String[] names = {
-                "GO", "Medit.\nAve", "Comm.\nChest", "Baltic\nAve", "Income\nTax", "Reading\nRR", "Oriental\nAve", "Chance", "Vermont\nAve", "Conn.\nAve",
-                "JAIL", "St. C\nPlace", "Electric\nCo.", "States\nAve", "Virginia\nAve", "Penn.\nRR", "St. J\nPlace", "Comm.\nChest", "Tenn.\nAve", "NY\nAve",
-                "Free\nPark", "KY\nAve", "Chance", "Ind.\nAve", "Ill.\nAve", "B. & O.\nRR", "Atl.\nAve", "Ventnor\nAve", "Water\nWorks", "Marvin\nGdn",
-                "Go To\nJail", "Pacific\nAve", "NC\nAve", "Comm.\nChest", "Penn.\nAve", "Short\nLine", "Chance", "Park\nPlace", "Luxury\nTax", "Board\nWalk"
-        };
-        return (index >= 0 && index < names.length) ? names[index] : "";
-    }
-}
\ No newline at end of file
+}
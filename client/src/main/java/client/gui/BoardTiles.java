@@ -0,0 +1,86 @@
+package client.gui;
+
+import utils.Constants;
+import javafx.scene.paint.Color;
+
+/**
+ * اطلاعات ثابت خانه‌های صفحه (نام، قیمت، آیکون، رنگ و مختصات) برای BoardPane
+ */
+final class BoardTiles {
+    static final Color[] PLAYER_COLORS = {Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE};
+
+    private BoardTiles() {}
+
+    static int getTilePrice(int i) {
+        if (isRailroad(i)) return 200;
+        if (isUtility(i)) return 150;
+        if (isProperty(i)) return (i + 1) * 10 + 50;
+        return 0;
+    }
+
+    static String getTileIcon(int i) {
+        if (i == 2 || i == 17 || i == 33) return "📦";
+        if (i == 7 || i == 22 || i == 36) return "?";
+        if (i == 5 || i == 15 || i == 25 || i == 35) return "🚆";
+        if (i == 12) return "💡";
+        if (i == 28) return "💧";
+        if (i == 38 || i == 4) return "💎";
+        if (i == 10) return "⛓️";
+        if (i == 20) return "🚗";
+        if (i == 30) return "👮";
+        if (i == 0) return "⬅";
+        return "";
+    }
+
+    static Color getIconColor(int i) {
+        if (i == 7 || i == 22 || i == 36) return Color.ORANGERED; // Chance
+        if (i == 2 || i == 17 || i == 33) return Color.DEEPSKYBLUE; // Chest
+        if (i == 12) return Color.GOLDENROD;
+        if (i == 28) return Color.DARKBLUE;
+        return Color.BLACK;
+    }
+
+    static boolean isProperty(int i) { return !isCorner(i) && !isSpecial(i) && !isRailroad(i) && !isUtility(i); }
+    static boolean isCorner(int i) { return i % 10 == 0; }
+    static boolean isRailroad(int i) { return i == 5 || i == 15 || i == 25 || i == 35; }
+    static boolean isUtility(int i) { return i == 12 || i == 28; }
+    static boolean isSpecial(int i) { return i == 2 || i == 7 || i == 17 || i == 22 || i == 33 || i == 36 || i == 4 || i == 38; }
+
+    static Color getTileBackgroundColor(int i) {
+        if (isCorner(i)) return Color.web("#D8E6F3");
+        if (isRailroad(i)) return Color.web("#F0F0F0");
+        return Color.WHITE;
+    }
+
+    static Color getTileColor(int index) {
+        if (index == 1 || index == 3) return Color.web("#8B4513");
+        if (index == 6 || index == 8 || index == 9) return Color.web("#87CEEB");
+        if (index == 11 || index == 13 || index == 14) return Color.web("#FF69B4");
+        if (index == 16 || index == 18 || index == 19) return Color.web("#FFA500");
+        if (index == 21 || index == 23 || index == 24) return Color.web("#FF0000");
+        if (index == 26 || index == 27 || index == 29) return Color.web("#FFFF00");
+        if (index == 31 || index == 32 || index == 34) return Color.web("#008000");
+        if (index == 37 || index == 39) return Color.web("#0000FF");
+        return Color.TRANSPARENT;
+    }
+
+    static double[] getTileCoordinates(int index) {
+        double endCoord = Constants.BOARD_SIZE - Constants.TILE_SIZE;
+        double x = 0, y = 0;
+        if (index < 10) { x = endCoord - (index * Constants.TILE_SIZE); y = endCoord; }
+        else if (index < 20) { x = 0; y = endCoord - ((index - 10) * Constants.TILE_SIZE); }
+        else if (index < 30) { x = (index - 20) * Constants.TILE_SIZE; y = 0; }
+        else { x = endCoord; y = (index - 30) * Constants.TILE_SIZE; }
+        return new double[]{x, y};
+    }
+
+    static String getTileName(int index) {
+        String[] names = {
+                "GO", "Medit.\nAve", "Comm.\nChest", "Baltic\nAve", "Income\nTax", "Reading\nRR", "Oriental\nAve", "Chance", "Vermont\nAve", "Conn.\nAve",
+                "JAIL", "St. C\nPlace", "Electric\nCo.", "States\nAve", "Virginia\nAve", "Penn.\nRR", "St. J\nPlace", "Comm.\nChest", "Tenn.\nAve", "NY\nAve",
+                "Free\nPark", "KY\nAve", "Chance", "Ind.\nAve", "Ill.\nAve", "B. & O.\nRR", "Atl.\nAve", "Ventnor\nAve", "Water\nWorks", "Marvin\nGdn",
+                "Go To\nJail", "Pacific\nAve", "NC\nAve", "Comm.\nChest", "Penn.\nAve", "Short\nLine", "Chance", "Park\nPlace", "Luxury\nTax", "Board\nWalk"
+        };
+        return (index >= 0 && index < names.length) ? names[index] : "";
+    }
+}
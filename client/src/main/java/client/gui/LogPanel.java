@@ -0,0 +1,170 @@
+package client.gui;
+
+import javafx.collections.transformation.FilteredList;
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.FileChooser;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+/**
+ * لاگ بازی
+ * فقط آخرین CAPACITY پیام در حافظه می‌ماند (LogRing) و ListView فقط سلول‌های دیده‌شده را می‌سازد،
+ * پس حافظه و هزینه هر پیام در بازی‌های چندساعته ثابت است. کل تاریخچه در یک فایل موقت روی دیسک
+ * نوشته می‌شود و Export همان فایل را کپی می‌کند.
+ */
+public class LogPanel extends VBox {
+    private static final int CAPACITY = 2000;
+    private static final String[] FILTERS = {"All", "Trade", "Rent", "Build"};
+
+    private final LogRing entries = new LogRing(CAPACITY);
+    private final FilteredList<String> visible = new FilteredList<>(entries);
+    private final ListView<String> logList;
+    private final Button export;
+    private Path historyFile;
+    private BufferedWriter history;
+
+    public LogPanel() {
+        this.setPadding(new Insets(10));
+        this.setSpacing(10);
+        this.setPrefWidth(250);
+        this.setStyle("-fx-background-color: #ecf0f1; -fx-border-color: #bdc3c7; -fx-border-width: 0 1 0 0;");
+
+        Label title = new Label("GAME LOG");
+        title.setFont(Font.font("Verdana", FontWeight.BOLD, 16));
+        title.setTextFill(Color.DARKSLATEGRAY);
+
+        ComboBox<String> filter = new ComboBox<>();
+        filter.getItems().addAll(FILTERS);
+        filter.setValue(FILTERS[0]);
+        filter.setOnAction(e -> applyFilter(filter.getValue()));
+
+        export = new Button("Export");
+        export.setOnAction(e -> exportHistory());
+
+        logList = new ListView<>(visible);
+        logList.setPrefHeight(600);
+        logList.setFocusTraversable(false);
+        logList.setStyle("-fx-font-family: Consolas; -fx-font-size: 12px; -fx-text-fill: #333;");
+        logList.setCellFactory(list -> new ListCell<>() {
+            {
+                setWrapText(true);
+                setPrefWidth(0); // عرض سلول از ListView گرفته شود تا متن بشکند
+            }
+
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty || item == null ? null : "• " + item); // بولت پوینت برای هر پیام
+            }
+        });
+        VBox.setVgrow(logList, Priority.ALWAYS);
+
+        openHistory();
+        export.setDisable(history == null);
+
+        this.getChildren().addAll(title, new HBox(10, filter, export), logList);
+    }
+
+    public void addLog(String message) {
+        entries.append(message);
+        if (history != null) {
+            try {
+                history.write(message);
+                history.newLine();
+            } catch (IOException e) {
+                System.err.println("Log history write failed: " + e.getMessage());
+                closeHistory();
+                entries.append("Log history stopped, export disabled: " + e.getMessage());
+            }
+        }
+        // فقط اگر آخرین پیام حلقه از فیلتر رد شده باشد پایین لیست می‌رویم
+        int last = visible.size() - 1;
+        if (last >= 0 && visible.getSourceIndex(last) == entries.size() - 1) {
+            logList.scrollTo(last);
+        }
+    }
+
+    /**
+     * بستن فایل تاریخچه هنگام خروج
+     */
+    public void close() {
+        closeHistory();
+    }
+
+    private void applyFilter(String name) {
+        switch (name) {
+            case "Trade" -> visible.setPredicate(m -> hasWord(m, "trade"));
+            case "Rent" -> visible.setPredicate(m -> hasWord(m, "rent"));
+            case "Build" -> visible.setPredicate(m -> hasWord(m, "built") || hasWord(m, "build"));
+            default -> visible.setPredicate(null);
+        }
+        if (!visible.isEmpty()) logList.scrollTo(visible.size() - 1);
+    }
+
+    // شروع یک کلمه (بدون حساسیت به حروف)؛ "rent" با "current" جور نمی‌شود
+    private static boolean hasWord(String message, String word) {
+        String lower = message.toLowerCase(Locale.ROOT);
+        for (int i = lower.indexOf(word); i >= 0; i = lower.indexOf(word, i + 1)) {
+            if (i == 0 || !Character.isLetter(lower.charAt(i - 1))) return true;
+        }
+        return false;
+    }
+
+    private void openHistory() {
+        try {
+            historyFile = Files.createTempFile("monopoly-log-", ".txt");
+            historyFile.toFile().deleteOnExit();
+            history = Files.newBufferedWriter(historyFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // بدون فایل تاریخچه لاگ روی صفحه همچنان کار می‌کند
+            System.err.println("Log history unavailable: " + e.getMessage());
+            history = null;
+        }
+    }
+
+    // بعد از بسته شدن تاریخچه چیزی برای Export نیست
+    private void closeHistory() {
+        if (history == null) return;
+        try {
+            history.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        history = null;
+        export.setDisable(true);
+    }
+
+    private void exportHistory() {
+        if (history == null) return;
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export game log");
+        chooser.setInitialFileName("game-log.txt");
+        File target = chooser.showSaveDialog(getScene().getWindow());
+        if (target == null) return;
+
+        try {
+            history.flush();
+            Files.copy(historyFile, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            addLog("Export failed: " + e.getMessage());
+        }
+    }
+}
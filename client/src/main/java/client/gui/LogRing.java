@@ -0,0 +1,45 @@
+package client.gui;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * لیست observable با ظرفیت ثابت روی یک آرایه حلقوی
+ * وقتی پر باشد، اضافه کردن قدیمی‌ترین عنصر را حذف می‌کند؛ هزینه هر اضافه ثابت است و حافظه بیشتر نمی‌شود.
+ * فقط از ترد FX استفاده می‌شود.
+ */
+final class LogRing extends ObservableListBase<String> {
+    private final String[] items;
+    private int head; // اندیس قدیمی‌ترین عنصر
+    private int size;
+
+    LogRing(int capacity) {
+        this.items = new String[capacity];
+    }
+
+    void append(String entry) {
+        beginChange();
+        if (size == items.length) {
+            String removed = items[head];
+            items[head] = entry;
+            head = (head + 1) % items.length;
+            nextRemove(0, removed);
+            nextAdd(size - 1, size);
+        } else {
+            items[(head + size) % items.length] = entry;
+            size++;
+            nextAdd(size - 1, size);
+        }
+        endChange();
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return items[(head + index) % items.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
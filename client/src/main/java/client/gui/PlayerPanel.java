@@ -56,9 +56,9 @@ public class PlayerPanel extends VBox {
         }
     }
 
-    public void updatePlayer(int index, String name, int money, int position) {
+    public void updatePlayer(int index, String name, int money, int position, int netWorth) {
         if (index >= 0 && index < 4) {
-            infoLabels[index].setText(String.format("Balance: $%d\nLocation: Tile %d", money, position));
+            infoLabels[index].setText(String.format("Balance: $%d\nNet Worth: $%d\nLocation: Tile %d", money, netWorth, position));
             infoLabels[index].setTextFill(Color.BLACK);
             // تغییر استایل برای نشان دادن فعال بودن
             playerCards[index].setStyle("-fx-background-color: #fff; -fx-border-color: #4CAF50; -fx-border-width: 2; -fx-background-radius: 8; -fx-border-radius: 8;");
@@ -0,0 +1,10 @@
+/**
+ * کلاینت JavaFX؛ فقط به ثابت‌های ماژول ds وابسته است
+ */
+module monopoly.client {
+    requires javafx.controls;
+    requires monopoly.ds;
+
+    // Application.launch کلاس اصلی را با reflection می‌سازد
+    exports client to javafx.graphics;
+}
@@ -0,0 +1,17 @@
+package ds.heap;
+
+public class HeapHandle {
+    public int key;
+    public Object value;
+    int index; // جایگاه فعلی در آرایه هیپ (-1 یعنی از هیپ حذف شده)
+
+    public HeapHandle(int key, Object value) {
+        this.key = key;
+        this.value = value;
+        this.index = -1;
+    }
+
+    public boolean isInHeap() {
+        return index >= 0;
+    }
+}
@@ -0,0 +1,222 @@
+package ds.heap;
+
+/**
+ * هیپ min-max دوطرفه
+ * سطرهای زوج (ریشه = سطح ۰) سطح min و سطرهای فرد سطح max هستند؛
+ * پس کمینه همیشه در ریشه و بیشینه در یکی از دو فرزند ریشه است.
+ * هر درج یک HeapHandle برمی‌گرداند تا بعداً بتوان کلید را در O(log n) تغییر داد یا حذف کرد.
+ */
+public class MyMinMaxHeap {
+    private int[] keys;
+    private HeapHandle[] handles;
+    private int size;
+    private int capacity;
+
+    public MyMinMaxHeap(int capacity) {
+        this.capacity = Math.max(capacity, 2);
+        this.size = 0;
+        this.keys = new int[this.capacity];
+        this.handles = new HeapHandle[this.capacity];
+    }
+
+    private int parent(int i) { return (i - 1) / 2; }
+    private int leftChild(int i) { return (2 * i) + 1; }
+
+    private boolean isMinLevel(int i) {
+        int level = 31 - Integer.numberOfLeadingZeros(i + 1);
+        return (level & 1) == 0;
+    }
+
+    public HeapHandle insert(int key, Object value) {
+        if (size == capacity) grow();
+
+        HeapHandle handle = new HeapHandle(key, value);
+        int i = size++;
+        keys[i] = key;
+        handles[i] = handle;
+        handle.index = i;
+        pushUp(i);
+        return handle;
+    }
+
+    // --- دسترسی O(1) به دو سر هیپ ---
+
+    public HeapHandle peekMin() {
+        return size == 0 ? null : handles[0];
+    }
+
+    public HeapHandle peekMax() {
+        return size == 0 ? null : handles[maxIndex()];
+    }
+
+    public Object extractMin() {
+        if (size == 0) return null;
+        return removeAt(0).value;
+    }
+
+    public Object extractMax() {
+        if (size == 0) return null;
+        return removeAt(maxIndex()).value;
+    }
+
+    /**
+     * تغییر کلید یک عنصر موجود در O(log n)
+     */
+    public void updateKey(HeapHandle handle, int newKey) {
+        if (!contains(handle)) return;
+        int oldKey = keys[handle.index];
+        handle.key = newKey;
+        keys[handle.index] = newKey;
+        if (newKey == oldKey) return;
+        pushDown(handle.index);
+        pushUp(handle.index);
+    }
+
+    public boolean remove(HeapHandle handle) {
+        if (!contains(handle)) return false;
+        removeAt(handle.index);
+        return true;
+    }
+
+    public boolean contains(HeapHandle handle) {
+        return handle != null && handle.index >= 0 && handle.index < size && handles[handle.index] == handle;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    private int maxIndex() {
+        if (size == 1) return 0;
+        if (size == 2) return 1;
+        return keys[1] >= keys[2] ? 1 : 2;
+    }
+
+    private HeapHandle removeAt(int i) {
+        HeapHandle removed = handles[i];
+        int last = --size;
+        if (i != last) {
+            HeapHandle moved = handles[last];
+            move(last, i);
+            handles[last] = null;
+            pushDown(i);
+            pushUp(moved.index);
+        } else {
+            handles[last] = null;
+        }
+        removed.index = -1;
+        return removed;
+    }
+
+    // --- بالا بردن عنصر (بعد از درج یا کاهش/افزایش کلید) ---
+
+    private void pushUp(int i) {
+        if (i == 0) return;
+        int p = parent(i);
+        if (isMinLevel(i)) {
+            if (keys[i] > keys[p]) {
+                swap(i, p);
+                pushUpMax(p);
+            } else {
+                pushUpMin(i);
+            }
+        } else {
+            if (keys[i] < keys[p]) {
+                swap(i, p);
+                pushUpMin(p);
+            } else {
+                pushUpMax(i);
+            }
+        }
+    }
+
+    private void pushUpMin(int i) {
+        while (i > 2) {
+            int grandParent = parent(parent(i));
+            if (keys[i] >= keys[grandParent]) return;
+            swap(i, grandParent);
+            i = grandParent;
+        }
+    }
+
+    private void pushUpMax(int i) {
+        while (i > 2) {
+            int grandParent = parent(parent(i));
+            if (keys[i] <= keys[grandParent]) return;
+            swap(i, grandParent);
+            i = grandParent;
+        }
+    }
+
+    // --- پایین بردن عنصر (بعد از حذف یا تغییر کلید) ---
+
+    private void pushDown(int i) {
+        if (isMinLevel(i)) pushDownMin(i);
+        else pushDownMax(i);
+    }
+
+    private void pushDownMin(int i) {
+        while (leftChild(i) < size) {
+            int m = extremeDescendant(i, true);
+            if (keys[m] >= keys[i]) return;
+            swap(m, i);
+            if (m <= leftChild(i) + 1) return; // m فرزند مستقیم بود
+            int p = parent(m);
+            if (keys[m] > keys[p]) swap(m, p);
+            i = m;
+        }
+    }
+
+    private void pushDownMax(int i) {
+        while (leftChild(i) < size) {
+            int m = extremeDescendant(i, false);
+            if (keys[m] <= keys[i]) return;
+            swap(m, i);
+            if (m <= leftChild(i) + 1) return;
+            int p = parent(m);
+            if (keys[m] < keys[p]) swap(m, p);
+            i = m;
+        }
+    }
+
+    // کوچک‌ترین (یا بزرگ‌ترین) عنصر بین فرزندان و نوه‌های i
+    private int extremeDescendant(int i, boolean min) {
+        int child = leftChild(i);
+        int best = child;
+        if (child + 1 < size && (min ? keys[child + 1] < keys[best] : keys[child + 1] > keys[best])) best = child + 1;
+
+        int firstGrandChild = leftChild(child);
+        int end = Math.min(firstGrandChild + 4, size);
+        for (int c = firstGrandChild; c < end; c++) {
+            if (min ? keys[c] < keys[best] : keys[c] > keys[best]) best = c;
+        }
+        return best;
+    }
+
+    private void grow() {
+        capacity *= 2;
+        int[] newKeys = new int[capacity];
+        HeapHandle[] newHandles = new HeapHandle[capacity];
+        System.arraycopy(keys, 0, newKeys, 0, size);
+        System.arraycopy(handles, 0, newHandles, 0, size);
+        keys = newKeys;
+        handles = newHandles;
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        handles[to] = handles[from];
+        handles[to].index = to;
+    }
+
+    private void swap(int i, int j) {
+        int tempKey = keys[i];
+        keys[i] = keys[j];
+        keys[j] = tempKey;
+
+        HeapHandle tempHandle = handles[i];
+        handles[i] = handles[j];
+        handles[j] = tempHandle;
+        handles[i].index = i;
+        handles[j].index = j;
+    }
+}
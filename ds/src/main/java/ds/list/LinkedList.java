@@ -26,6 +26,38 @@ public class LinkedList {
         size++;
     }
 
+    // حذف اولین گره‌ای که داده‌اش برابر data است (با حفظ حلقه)
+    public boolean remove(Object data) {
+        if (head == null) return false;
+
+        Node prev = tail;
+        Node current = head;
+        for (int i = 0; i < size; i++) {
+            if (current.data == data) {
+                if (size == 1) {
+                    head = null;
+                    tail = null;
+                } else {
+                    prev.next = current.next;
+                    if (current == head) head = current.next;
+                    if (current == tail) tail = prev;
+                }
+                current.next = null;
+                size--;
+                return true;
+            }
+            prev = current;
+            current = current.next;
+        }
+        return false;
+    }
+
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
     // متد حرکت روی خانه‌ها (مهم برای بازی)
     public Node move(Node startNode, int steps) {
         if (startNode == null) return head; // اگر نال بود از شروع برو
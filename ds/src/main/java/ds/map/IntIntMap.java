@@ -0,0 +1,161 @@
+package ds.map;
+
+import java.util.Arrays;
+
+/**
+ * نسخه int -> int از MyHashMap بدون هیچ boxing
+ * برای کلید نبودن، مقدار missingValue برگردانده می‌شود.
+ */
+public class IntIntMap {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int missingValue;
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntMap(int capacity, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(tableSizeFor(capacity));
+    }
+
+    private static int tableSizeFor(int expected) {
+        int needed = (int) Math.ceil(Math.max(expected, 2) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        values = new int[tableSize];
+        mask = tableSize - 1;
+        resizeThreshold = (int) (tableSize * LOAD_FACTOR);
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    public void put(int key, int value) {
+        if (key == 0) {
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+
+        int i = slot(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeThreshold) rehash(keys.length * 2);
+    }
+
+    // افزودن delta به مقدار فعلی (اگر کلید نبود از صفر شروع می‌شود)
+    public int addTo(int key, int delta) {
+        int current = get(key);
+        int updated = (current == missingValue ? 0 : current) + delta;
+        put(key, updated);
+        return updated;
+    }
+
+    public int get(int key) {
+        if (key == 0) return hasZeroKey ? zeroValue : missingValue;
+
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) return values[i];
+            i = (i + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == 0) return hasZeroKey;
+
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return missingValue;
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) {
+                int old = values[i];
+                size--;
+                shiftKeys(i);
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    private void shiftKeys(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int k;
+            while (true) {
+                if ((k = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                int home = slot(k);
+                if (last <= pos ? (last >= home || home > pos) : (last >= home && home > pos)) break;
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = k;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int newTableSize) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newTableSize);
+        for (int j = 0; j < oldKeys.length; j++) {
+            int k = oldKeys[j];
+            if (k == 0) continue;
+            int i = slot(k);
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+            values[i] = oldValues[j];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int getMissingValue() { return missingValue; }
+}
@@ -0,0 +1,160 @@
+package ds.map;
+
+import java.util.Arrays;
+
+/**
+ * هش‌مپ با کلید int به روش آدرس‌دهی باز (linear probing)
+ * جدول همیشه توانی از ۲ است و با عبور از ضریب بار دو برابر می‌شود.
+ * حذف با شیفت به عقب انجام می‌شود، پس هیچ tombstone در جدول نمی‌ماند.
+ * کلید ۰ به عنوان علامت خانه خالی رزرو شده و جداگانه نگه‌داری می‌شود.
+ */
+public class MyHashMap {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    private boolean hasZeroKey;
+    private Object zeroValue;
+
+    public MyHashMap(int capacity) {
+        allocate(tableSizeFor(capacity));
+    }
+
+    private static int tableSizeFor(int expected) {
+        int needed = (int) Math.ceil(Math.max(expected, 2) / LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        values = new Object[tableSize];
+        mask = tableSize - 1;
+        resizeThreshold = (int) (tableSize * LOAD_FACTOR);
+    }
+
+    // ضرب فیبوناچی؛ برای کلیدهای منفی هم اندیس معتبر می‌دهد
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    public void put(int key, Object value) {
+        if (key == 0) {
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+
+        int i = slot(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeThreshold) rehash(keys.length * 2);
+    }
+
+    public Object get(int key) {
+        if (key == 0) return hasZeroKey ? zeroValue : null;
+
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) return values[i];
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == 0) return hasZeroKey;
+
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public Object remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return null;
+            Object old = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            size--;
+            return old;
+        }
+
+        int i = slot(key);
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) {
+                Object old = values[i];
+                size--;
+                shiftKeys(i);
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    // پر کردن جای خالی با عناصر بعدی زنجیره تا جستجوها قطع نشوند
+    private void shiftKeys(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int k;
+            while (true) {
+                if ((k = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    values[last] = null;
+                    return;
+                }
+                int home = slot(k);
+                // اگر خانه اصلی عنصر بین last و pos نباشد، می‌تواند به last منتقل شود
+                if (last <= pos ? (last >= home || home > pos) : (last >= home && home > pos)) break;
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = k;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int newTableSize) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newTableSize);
+        for (int j = 0; j < oldKeys.length; j++) {
+            int k = oldKeys[j];
+            if (k == 0) continue;
+            int i = slot(k);
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+            values[i] = oldValues[j];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+}
@@ -0,0 +1,95 @@
+package ds.queue;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * صف حلقوی بدون قفل با چند تولیدکننده و یک مصرف‌کننده (MPSC)
+ * هر خانه یک شماره توالی دارد: تولیدکننده با CAS روی شمارنده تولید یک خانه رزرو می‌کند،
+ * عنصر را می‌نویسد و با انتشار توالی خانه آن را به مصرف‌کننده تحویل می‌دهد.
+ * ظرفیت ثابت است (توانی از ۲) و پس از ساخت هیچ تخصیص حافظه‌ای انجام نمی‌شود.
+ */
+public class MpscQueue {
+    // شمارنده‌ها در یک AtomicLongArray با فاصله ۱۲۸ بایت قرار می‌گیرند تا
+    // تولیدکننده‌ها و مصرف‌کننده روی یک cache line با هم رقابت نکنند (false sharing)
+    private static final int PAD = 16;
+    private static final int PRODUCER = PAD;
+    private static final int CONSUMER = PAD * 2;
+
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray counters;
+    private final int mask;
+
+    public MpscQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.counters = new AtomicLongArray(PAD * 3);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+    }
+
+    /**
+     * قابل فراخوانی از هر تردی؛ اگر صف پر باشد false برمی‌گرداند
+     */
+    public boolean offer(Object item) {
+        while (true) {
+            long pos = counters.get(PRODUCER);
+            int i = (int) (pos & mask);
+            long diff = sequences.get(i) - pos;
+            if (diff == 0) {
+                if (counters.compareAndSet(PRODUCER, pos, pos + 1)) {
+                    buffer[i] = item;
+                    sequences.lazySet(i, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * فقط از ترد مصرف‌کننده؛ اگر عنصری آماده نباشد null برمی‌گرداند
+     */
+    public Object poll() {
+        long pos = counters.get(CONSUMER);
+        int i = (int) (pos & mask);
+        if (sequences.get(i) != pos + 1) return null;
+
+        Object item = buffer[i];
+        buffer[i] = null;
+        sequences.lazySet(i, pos + buffer.length);
+        counters.lazySet(CONSUMER, pos + 1);
+        return item;
+    }
+
+    /**
+     * فقط از ترد مصرف‌کننده؛ حداکثر limit عنصر را به consumer می‌دهد
+     */
+    public int drain(Consumer<Object> consumer, int limit) {
+        int count = 0;
+        Object item;
+        while (count < limit && (item = poll()) != null) {
+            consumer.accept(item);
+            count++;
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return counters.get(CONSUMER) == counters.get(PRODUCER);
+    }
+
+    public int size() {
+        long size = counters.get(PRODUCER) - counters.get(CONSUMER);
+        return (int) Math.max(0, Math.min(size, buffer.length));
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+}
@@ -0,0 +1,100 @@
+package ds.queue;
+
+/**
+ * صف حلقوی مبتنی بر آرایه
+ * برخلاف نسخه لیست پیوندی، enqueue/dequeue هیچ شیئی نمی‌سازد؛ آرایه فقط وقتی پر شود دو برابر می‌شود.
+ */
+public class MyQueue {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] items;
+    private int front; // اندیس اولین عنصر
+    private int size;
+
+    public MyQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MyQueue(int capacity) {
+        this.items = new Object[Math.max(capacity, 2)];
+        this.front = 0;
+        this.size = 0;
+    }
+
+    public void enqueue(Object item) {
+        if (size == items.length) grow(size + 1);
+        items[index(size)] = item;
+        size++;
+    }
+
+    public Object dequeue() {
+        if (size == 0) {
+            return null;
+        }
+        Object item = items[front];
+        items[front] = null;
+        front = index(1);
+        size--;
+        return item;
+    }
+
+    public Object peek() {
+        if (size == 0) {
+            return null;
+        }
+        return items[front];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * افزودن گروهی count عنصر از آرایه source با حداکثر یک بار بزرگ کردن آرایه
+     */
+    public void offerAll(Object[] source, int from, int count) {
+        if (size + count > items.length) grow(size + count);
+        for (int i = 0; i < count; i++) {
+            items[index(size)] = source[from + i];
+            size++;
+        }
+    }
+
+    /**
+     * خالی کردن حداکثر max عنصر در آرایه target؛ تعداد عناصر منتقل‌شده برگردانده می‌شود
+     */
+    public int drainTo(Object[] target, int max) {
+        int count = Math.min(Math.min(max, size), target.length);
+        for (int i = 0; i < count; i++) {
+            target[i] = items[front];
+            items[front] = null;
+            front = index(1);
+        }
+        size -= count;
+        return count;
+    }
+
+    public void clear() {
+        while (size > 0) dequeue();
+        front = 0;
+    }
+
+    private int index(int offset) {
+        int i = front + offset;
+        return i < items.length ? i : i - items.length;
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(items.length * 2, minCapacity);
+        Object[] newItems = new Object[newCapacity];
+        for (int i = 0; i < size; i++) {
+            newItems[i] = items[index(i)];
+        }
+        items = newItems;
+        front = 0;
+    }
+}
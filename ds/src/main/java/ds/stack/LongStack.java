@@ -0,0 +1,42 @@
+package ds.stack;
+
+import java.util.Arrays;
+
+/**
+ * پشته اعداد long بدون boxing؛ برای رکوردهای فشرده (مثلاً لاگ undo موتور بازی)
+ */
+public class LongStack {
+    private long[] items;
+    private int size;
+
+    public LongStack(int capacity) {
+        this.items = new long[Math.max(capacity, 1)];
+        this.size = 0;
+    }
+
+    public void push(long value) {
+        if (size == items.length) items = Arrays.copyOf(items, size * 2);
+        items[size++] = value;
+    }
+
+    // فراخوان باید قبلاً isEmpty را بررسی کرده باشد
+    public long pop() {
+        return items[--size];
+    }
+
+    public long peek() {
+        return items[size - 1];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,56 @@
+package ds.stack;
+
+import java.util.Arrays;
+
+/**
+ * پشته مبتنی بر آرایه؛ push فقط هنگام پر شدن آرایه حافظه می‌گیرد
+ */
+public class MyStack {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] items;
+    private int size;
+
+    public MyStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MyStack(int capacity) {
+        this.items = new Object[Math.max(capacity, 1)];
+        this.size = 0;
+    }
+
+    public void push(Object item) {
+        if (size == items.length) items = Arrays.copyOf(items, size * 2);
+        items[size++] = item;
+    }
+
+    public Object pop() {
+        if (size == 0) {
+            return null;
+        }
+        Object item = items[--size];
+        items[size] = null;
+        return item;
+    }
+
+    public Object peek() {
+        if (size == 0) {
+            return null;
+        }
+        return items[size - 1];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,165 @@
+package ds.tree;
+
+import ds.list.Node;
+import ds.map.MyHashMap;
+
+public class AssetTree {
+    private TreeNode root;
+
+    // ایندکس شناسه ملک -> نود ملک، برای دسترسی O(1) بدون پیمایش درخت
+    private MyHashMap propertyIndex;
+    private int propertyCount;
+
+    // ریشه درخت، نام خودِ بازیکن است
+    public AssetTree(String playerName) {
+        this.root = new TreeNode(0, playerName);
+        this.propertyIndex = new MyHashMap(32);
+        this.propertyCount = 0;
+    }
+
+    public TreeNode getRoot() {
+        return root;
+    }
+
+    /**
+     * افزودن ملک به درخت دارایی‌ها
+     * ساختار: بازیکن -> گروه رنگی -> ملک
+     */
+    public void addProperty(String colorGroup, String propertyName, int propertyId) {
+        // ملک تکراری اضافه نمی‌شود
+        if (findProperty(propertyId) != null) return;
+
+        // گروه‌های رنگی محدودند، پس جستجوی خطی روی آن‌ها فقط هنگام افزودن ملک انجام می‌شود
+        TreeNode colorNode = findChild(root, colorGroup);
+        if (colorNode == null) {
+            colorNode = new TreeNode(0, colorGroup);
+            colorNode.parent = root;
+            root.children.add(colorNode);
+        }
+
+        TreeNode propertyNode = new TreeNode(propertyId, propertyName);
+        propertyNode.parent = colorNode;
+        colorNode.children.add(propertyNode);
+        propertyIndex.put(propertyId, propertyNode);
+        propertyCount++;
+    }
+
+    /**
+     * افزودن ساختمان (خانه/هتل) به یک ملک خاص
+     * ساختمان‌ها به‌صورت شمارنده روی نود ملک نگه‌داری می‌شوند، نه نود جداگانه
+     */
+    public void addBuilding(int propertyId, boolean isHotel) {
+        TreeNode propertyNode = findProperty(propertyId);
+        if (propertyNode == null) return;
+
+        if (isHotel) propertyNode.hotel = true;
+        else propertyNode.houses++;
+    }
+
+    public void setBuildings(int propertyId, int houses, boolean hotel) {
+        TreeNode propertyNode = findProperty(propertyId);
+        if (propertyNode == null) return;
+
+        propertyNode.houses = houses;
+        propertyNode.hotel = hotel;
+    }
+
+    /**
+     * حذف ملک (و ساختمان‌هایش) از درخت؛ گروه رنگی خالی هم حذف می‌شود
+     */
+    public TreeNode removeProperty(int propertyId) {
+        TreeNode propertyNode = findProperty(propertyId);
+        if (propertyNode == null) return null;
+
+        TreeNode colorNode = propertyNode.parent;
+        colorNode.children.remove(propertyNode);
+        if (colorNode.children.size() == 0) root.children.remove(colorNode);
+
+        propertyIndex.remove(propertyId);
+        propertyNode.parent = null;
+        propertyCount--;
+        return propertyNode;
+    }
+
+    /**
+     * انتقال ملک به درخت بازیکن دیگر (معامله یا ورشکستگی به نفع بازیکن)
+     */
+    public boolean transferProperty(int propertyId, AssetTree target) {
+        TreeNode propertyNode = findProperty(propertyId);
+        if (propertyNode == null) return false;
+
+        String colorGroup = propertyNode.parent.data.toString();
+        removeProperty(propertyId);
+        target.addProperty(colorGroup, propertyNode.data.toString(), propertyId);
+        target.setBuildings(propertyId, propertyNode.houses, propertyNode.hotel);
+        return true;
+    }
+
+    // حذف همه دارایی‌ها (ورشکستگی)
+    public void clear() {
+        root.children.clear();
+        propertyIndex.clear();
+        propertyCount = 0;
+    }
+
+    public boolean ownsProperty(int propertyId) { return findProperty(propertyId) != null; }
+    public int getPropertyCount() { return propertyCount; }
+
+    public int getHouses(int propertyId) {
+        TreeNode propertyNode = findProperty(propertyId);
+        return propertyNode == null ? 0 : propertyNode.houses;
+    }
+
+    public boolean hasHotel(int propertyId) {
+        TreeNode propertyNode = findProperty(propertyId);
+        return propertyNode != null && propertyNode.hotel;
+    }
+
+    // --- متدهای کمکی برای جستجو در لیست پیوندی و درخت ---
+
+    private TreeNode findProperty(int propertyId) {
+        return (TreeNode) propertyIndex.get(propertyId);
+    }
+
+    // جستجوی فرزند مستقیم (مثلاً پیدا کردن رنگ در زیرمجموعه بازیکن)
+    private TreeNode findChild(TreeNode parent, String name) {
+        Node current = parent.children.getHead();
+        if (current == null) return null;
+
+        Node head = current;
+        do {
+            TreeNode child = (TreeNode) current.data;
+            if (child.data.toString().equals(name)) {
+                return child;
+            }
+            current = current.next;
+        } while (current != null && current != head); // هندل کردن لیست حلقوی
+        return null;
+    }
+
+    // متد پیمایش (Traversal) برای نمایش گزارش؛ فقط هنگام درخواست ساخته می‌شود
+    public String printTree() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Asset Structure for: ").append(root.data).append("\n");
+        printRecursive(root, 0, sb);
+        return sb.toString();
+    }
+
+    private void printRecursive(TreeNode node, int level, StringBuilder sb) {
+        // ایجاد فاصله برای نمایش سلسله‌مراتب
+        for (int i = 0; i < level; i++) sb.append("    ");
+        if (level > 0) sb.append("|-- ").append(node.data);
+        if (node.hotel) sb.append(" [Hotel]");
+        else if (node.houses > 0) sb.append(" [").append(node.houses).append(node.houses == 1 ? " House]" : " Houses]");
+        if (level > 0) sb.append("\n");
+
+        Node current = node.children.getHead();
+        if (current == null) return;
+        Node head = current;
+
+        do {
+            printRecursive((TreeNode) current.data, level + 1, sb);
+            current = current.next;
+        } while (current != null && current != head);
+    }
+}
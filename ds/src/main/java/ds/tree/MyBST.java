@@ -0,0 +1,213 @@
+package ds.tree;
+
+import java.util.function.Consumer;
+
+/**
+ * نقشه مرتب با کلید int به صورت درخت AVL
+ * اختلاف ارتفاع دو زیردرخت هر گره حداکثر ۱ است، پس حتی با ورودی مرتب
+ * (مثل شناسه خانه‌ها یا قیمت‌ها) درج، حذف و جستجو O(log n) می‌مانند.
+ * پیمایش بازه‌ای فقط شاخه‌های داخل بازه را باز می‌کند: O(log n + k)
+ */
+public class MyBST {
+    private TreeNode root;
+    private int size;
+
+    public void insert(int key, Object data) {
+        put(key, data);
+    }
+
+    // اگر کلید موجود باشد مقدارش جایگزین می‌شود
+    public void put(int key, Object data) {
+        root = insertRec(root, key, data);
+    }
+
+    private TreeNode insertRec(TreeNode node, int key, Object data) {
+        if (node == null) {
+            size++;
+            return new TreeNode(key, data, null);
+        }
+        if (key < node.key) {
+            node.left = insertRec(node.left, key, data);
+        } else if (key > node.key) {
+            node.right = insertRec(node.right, key, data);
+        } else {
+            node.data = data;
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    public Object get(int key) {
+        TreeNode node = root;
+        while (node != null) {
+            if (key < node.key) node = node.left;
+            else if (key > node.key) node = node.right;
+            else return node.data;
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key) {
+        TreeNode node = root;
+        while (node != null) {
+            if (key < node.key) node = node.left;
+            else if (key > node.key) node = node.right;
+            else return true;
+        }
+        return false;
+    }
+
+    public boolean delete(int key) {
+        int before = size;
+        root = deleteRec(root, key);
+        return size < before;
+    }
+
+    private TreeNode deleteRec(TreeNode node, int key) {
+        if (node == null) return null;
+        if (key < node.key) {
+            node.left = deleteRec(node.left, key);
+        } else if (key > node.key) {
+            node.right = deleteRec(node.right, key);
+        } else {
+            size--;
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+            // جایگزینی با کوچک‌ترین گره زیردرخت راست
+            TreeNode successor = node.right;
+            while (successor.left != null) successor = successor.left;
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private TreeNode removeMin(TreeNode node) {
+        if (node.left == null) return node.right;
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * بزرگ‌ترین گره با کلید کوچک‌تر یا مساوی key (یا null)
+     */
+    public TreeNode floor(int key) {
+        TreeNode node = root;
+        TreeNode best = null;
+        while (node != null) {
+            if (node.key == key) return node;
+            if (node.key < key) {
+                best = node;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * کوچک‌ترین گره با کلید بزرگ‌تر یا مساوی key (یا null)
+     */
+    public TreeNode ceiling(int key) {
+        TreeNode node = root;
+        TreeNode best = null;
+        while (node != null) {
+            if (node.key == key) return node;
+            if (node.key > key) {
+                best = node;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return best;
+    }
+
+    public TreeNode first() {
+        TreeNode node = root;
+        if (node == null) return null;
+        while (node.left != null) node = node.left;
+        return node;
+    }
+
+    public TreeNode last() {
+        TreeNode node = root;
+        if (node == null) return null;
+        while (node.right != null) node = node.right;
+        return node;
+    }
+
+    /**
+     * پیمایش مرتب گره‌هایی که کلیدشان در بازه [from, to] است
+     */
+    public void range(int from, int to, Consumer<TreeNode> visitor) {
+        rangeRec(root, from, to, visitor);
+    }
+
+    private void rangeRec(TreeNode node, int from, int to, Consumer<TreeNode> visitor) {
+        if (node == null) return;
+        if (from < node.key) rangeRec(node.left, from, to, visitor);
+        if (from <= node.key && node.key <= to) visitor.accept(node);
+        if (node.key < to) rangeRec(node.right, from, to, visitor);
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    // --- متوازن‌سازی AVL ---
+
+    private int height(TreeNode node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private void updateHeight(TreeNode node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private TreeNode rebalance(TreeNode node) {
+        updateHeight(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private TreeNode rotateRight(TreeNode node) {
+        TreeNode pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    private TreeNode rotateLeft(TreeNode node) {
+        TreeNode pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    public void inOrder() {
+        inOrderRec(root);
+        System.out.println();
+    }
+
+    private void inOrderRec(TreeNode root) {
+        if (root != null) {
+            inOrderRec(root.left);
+            System.out.print(root.data + " ");
+            inOrderRec(root.right);
+        }
+    }
+}
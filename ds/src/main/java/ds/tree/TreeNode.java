@@ -0,0 +1,37 @@
+package ds.tree;
+
+import ds.list.LinkedList;
+
+public class TreeNode {
+    public Object data; // داده (مثلاً نام ملک، رنگ، یا نام بازیکن)
+    public int key;     // می‌تواند شناسه ملک باشد (اختیاری)
+    public TreeNode left;  // برای BST (در این ساختار استفاده نمی‌شود اما بودن آن ضرر ندارد)
+    public TreeNode right; // برای BST
+    public int height;     // ارتفاع گره در درخت AVL (MyBST)
+    public LinkedList children; // لیست فرزندان (برای درخت عمومی AssetTree)
+    public TreeNode parent;     // والد در AssetTree (برای حذف ملک از گروه رنگی)
+    public int houses;          // شمارنده خانه‌های ملک در AssetTree
+    public boolean hotel;       // آیا روی ملک هتل ساخته شده؟
+
+    public TreeNode(int key, Object data) {
+        this(key, data, new LinkedList()); // استفاده از لیست پیوندی دست‌نویس
+    }
+
+    // گره‌های MyBST فرزند عمومی ندارند و لیست برایشان ساخته نمی‌شود
+    TreeNode(int key, Object data, LinkedList children) {
+        this.key = key;
+        this.data = data;
+        this.left = null;
+        this.right = null;
+        this.parent = null;
+        this.houses = 0;
+        this.hotel = false;
+        this.children = children;
+        this.height = 1;
+    }
+
+    @Override
+    public String toString() {
+        return data.toString();
+    }
+}
\ No newline at end of file
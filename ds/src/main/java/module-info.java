@@ -0,0 +1,13 @@
+/**
+ * ساختمان‌داده‌ها و ابزارهای پایه (ثابت‌ها، لاگ، هیستوگرام تأخیر)؛ بدون وابستگی
+ */
+module monopoly.ds {
+    exports ds.graph;
+    exports ds.heap;
+    exports ds.list;
+    exports ds.map;
+    exports ds.queue;
+    exports ds.stack;
+    exports ds.tree;
+    exports utils;
+}
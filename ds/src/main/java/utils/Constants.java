@@ -6,12 +6,7 @@ public class Constants {
     public static final int PORT = 8080;
 
 
-    public static final int MAX_PLAYERS = 4;
-    public static final int STARTING_MONEY = 1500;
-    public static final int GO_REWARD = 200;
-
-
-    public static final int TOTAL_TILES = 40;
+    public static final String ARCHIVE_DIR = "archive";
 
 
     public static final int TILE_SIZE = 60;
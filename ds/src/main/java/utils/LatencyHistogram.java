@@ -0,0 +1,116 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * هیستوگرام تأخیر بدون قفل به سبک HDR (لگاریتمی-خطی)
+ * مقادیر زیر ۶۴ دقیق نگه‌داری می‌شوند؛ بالاتر از آن هر توان ۲ به ۳۲ سطل تقسیم می‌شود،
+ * پس خطای نسبی هر صدک حداکثر حدود ۳٪ است و حافظه ثابت (کمتر از ۱۶ کیلوبایت) است.
+ * record از چند ترد هم‌زمان امن است و فقط چند عملیات اتمی انجام می‌دهد؛ تعداد، جمع و بیشینه در
+ * LongAdder/LongAccumulator هستند که زیر رقابت بین سلول‌های تردها پخش و هنگام خواندن جمع می‌شوند.
+ */
+public class LatencyHistogram {
+    private static final int LINEAR = 64;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int FIRST_EXPONENT = 6; // 2^6 = LINEAR
+    private static final int BUCKETS = LINEAR + (63 - FIRST_EXPONENT) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder total;
+    private final LongAdder sum;
+    private final LongAccumulator max;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.total = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR) return value < 0 ? 0 : (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)); // [32, 64)
+        return LINEAR + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + (mantissa - SUB_BUCKETS);
+    }
+
+    // بزرگ‌ترین مقداری که در سطل index قرار می‌گیرد
+    static long upperBoundOf(int index) {
+        if (index < LINEAR) return index;
+        int exponent = (index - LINEAR) / SUB_BUCKETS + FIRST_EXPONENT;
+        long mantissa = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    public void record(long value) {
+        counts.incrementAndGet(bucketOf(value));
+        total.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * افزودن همه مقادیر یک هیستوگرام دیگر (مثلاً جمع کردن هیستوگرام تردها)
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) counts.addAndGet(i, c);
+        }
+        total.add(other.total.sum());
+        sum.add(other.sum.sum());
+        max.accumulate(other.max.get());
+    }
+
+    public long getCount() { return total.sum(); }
+    public long getSum() { return sum.sum(); }
+    public long getMax() { return max.get(); }
+
+    public double getMean() {
+        long n = total.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * مقدار صدک percentile (۰ تا ۱۰۰)؛ کران بالای سطل برگردانده می‌شود
+     */
+    public long getValueAtPercentile(double percentile) {
+        long n = total.sum();
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return Math.min(upperBoundOf(i), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * تعداد مقادیر کوچک‌تر یا مساوی limit (برای سطل‌های تجمعی Prometheus)
+     */
+    public long countAtOrBelow(long limit) {
+        long c = 0;
+        int last = bucketOf(limit);
+        for (int i = 0; i <= last && i < BUCKETS; i++) c += counts.get(i);
+        return c;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        total.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    // خلاصه یک‌خطی بر حسب میکروثانیه برای گزارش‌های ابزارها
+    public String summaryMicros() {
+        return String.format("n=%d mean=%.1f p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f (us)",
+                getCount(), getMean() / 1000.0,
+                getValueAtPercentile(50) / 1000.0, getValueAtPercentile(90) / 1000.0,
+                getValueAtPercentile(99) / 1000.0, getValueAtPercentile(99.9) / 1000.0, getMax() / 1000.0);
+    }
+}
@@ -0,0 +1,224 @@
+package utils;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * لاگ ناهمگام سرور
+ * هر پیام در یک خانه از بافر حلقوی از پیش ساخته‌شده نوشته می‌شود و یک ترد پس‌زمینه
+ * آن را قالب‌بندی و روی خروجی می‌نویسد؛ ترد فراخوان هیچ I/O انجام نمی‌دهد.
+ * پیام‌ها الگو هستند و جای {} به ترتیب با آرگومان‌های عددی و سپس آرگومان شیء پر می‌شود.
+ * اگر سطح پیام غیرفعال باشد، فراخوانی فقط یک مقایسه است و هیچ شیئی ساخته نمی‌شود.
+ *
+ * تنظیمات (System property):
+ *   monopoly.log.level  = TRACE | DEBUG | INFO | WARN | ERROR   (پیش‌فرض INFO)
+ *   monopoly.log.format = TEXT | JSON                           (پیش‌فرض TEXT)
+ *   monopoly.log.file   = مسیر فایل خروجی                        (پیش‌فرض کنسول)
+ */
+public final class Log {
+    public static final int TRACE = 0;
+    public static final int DEBUG = 1;
+    public static final int INFO = 2;
+    public static final int WARN = 3;
+    public static final int ERROR = 4;
+    private static final String[] LEVEL_NAMES = {"TRACE", "DEBUG", "INFO", "WARN", "ERROR"};
+
+    // تگ پیام‌هایی که به اتاق/بازی خاصی تعلق ندارند
+    public static final int NO_TAG = -1;
+
+    private static final int CAPACITY = 1 << 14;
+    private static final int MASK = CAPACITY - 1;
+
+    // ستون‌های بافر حلقوی (هر اندیس یک رکورد)
+    private static final long[] timestamps = new long[CAPACITY];
+    private static final byte[] levels = new byte[CAPACITY];
+    private static final int[] tags = new int[CAPACITY];
+    private static final String[] messages = new String[CAPACITY];
+    private static final byte[] numArgs = new byte[CAPACITY];
+    private static final long[] argA = new long[CAPACITY];
+    private static final long[] argB = new long[CAPACITY];
+    private static final Object[] objects = new Object[CAPACITY];
+
+    // published[i] == seq + 1 یعنی رکورد seq در خانه i کامل نوشته شده است
+    private static final AtomicLongArray published = new AtomicLongArray(CAPACITY);
+    private static final AtomicLong tail = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static volatile long head;
+
+    private static volatile int threshold = parseLevel(System.getProperty("monopoly.log.level", "INFO"));
+    private static final boolean json = "JSON".equalsIgnoreCase(System.getProperty("monopoly.log.format", "TEXT"));
+    private static final PrintStream out = openOutput(System.getProperty("monopoly.log.file"));
+
+    static {
+        Thread drainer = new Thread(Log::drainLoop, "log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::drain, "log-flush"));
+    }
+
+    private Log() {}
+
+    public static boolean isEnabled(int level) { return level >= threshold; }
+    public static void setLevel(int level) { threshold = level; }
+
+    // --- API: بدون varargs تا فراخوانی با آرگومان عددی هیچ boxing نداشته باشد ---
+
+    public static void trace(int tag, String msg, Object obj) { if (TRACE >= threshold) publish(TRACE, tag, msg, 0, 0, 0, obj); }
+
+    public static void debug(int tag, String msg) { if (DEBUG >= threshold) publish(DEBUG, tag, msg, 0, 0, 0, null); }
+    public static void debug(int tag, String msg, long a) { if (DEBUG >= threshold) publish(DEBUG, tag, msg, 1, a, 0, null); }
+    public static void debug(int tag, String msg, long a, Object obj) { if (DEBUG >= threshold) publish(DEBUG, tag, msg, 1, a, 0, obj); }
+    public static void debug(int tag, String msg, long a, long b) { if (DEBUG >= threshold) publish(DEBUG, tag, msg, 2, a, b, null); }
+    public static void debug(int tag, String msg, long a, long b, Object obj) { if (DEBUG >= threshold) publish(DEBUG, tag, msg, 2, a, b, obj); }
+
+    public static void info(int tag, String msg) { if (INFO >= threshold) publish(INFO, tag, msg, 0, 0, 0, null); }
+    public static void info(int tag, String msg, long a) { if (INFO >= threshold) publish(INFO, tag, msg, 1, a, 0, null); }
+    public static void info(int tag, String msg, long a, long b) { if (INFO >= threshold) publish(INFO, tag, msg, 2, a, b, null); }
+
+    public static void warn(int tag, String msg, long a) { if (WARN >= threshold) publish(WARN, tag, msg, 1, a, 0, null); }
+    public static void warn(int tag, String msg, Object obj) { if (WARN >= threshold) publish(WARN, tag, msg, 0, 0, 0, obj); }
+
+    public static void error(int tag, String msg, Throwable t) { if (ERROR >= threshold) publish(ERROR, tag, msg, 0, 0, 0, t); }
+
+    private static void publish(int level, int tag, String msg, int argCount, long a, long b, Object obj) {
+        long seq;
+        do {
+            seq = tail.get();
+            if (seq - head >= CAPACITY) {
+                // بافر پر است؛ مسیر دستورات نباید منتظر دیسک/کنسول بماند
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(seq, seq + 1));
+
+        int i = (int) (seq & MASK);
+        timestamps[i] = System.currentTimeMillis();
+        levels[i] = (byte) level;
+        tags[i] = tag;
+        messages[i] = msg;
+        numArgs[i] = (byte) argCount;
+        argA[i] = a;
+        argB[i] = b;
+        objects[i] = obj;
+        published.lazySet(i, seq + 1);
+    }
+
+    // --- ترد نویسنده ---
+
+    private static void drainLoop() {
+        while (true) {
+            if (!drain()) LockSupport.parkNanos(1_000_000L);
+        }
+    }
+
+    private static synchronized boolean drain() {
+        boolean wrote = false;
+        StringBuilder sb = new StringBuilder(256);
+        long h = head;
+        while (published.get((int) (h & MASK)) == h + 1) {
+            int i = (int) (h & MASK);
+            sb.setLength(0);
+            format(i, sb);
+            out.println(sb);
+            objects[i] = null;
+            messages[i] = null;
+            head = ++h;
+            wrote = true;
+        }
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            out.println("Log buffer full, dropped " + lost + " entries");
+            wrote = true;
+        }
+        if (wrote) out.flush();
+        return wrote;
+    }
+
+    private static void format(int i, StringBuilder sb) {
+        Object obj = objects[i];
+        String text = render(messages[i], numArgs[i], argA[i], argB[i], obj);
+        if (json) {
+            sb.append("{\"ts\":").append(timestamps[i])
+              .append(",\"level\":\"").append(LEVEL_NAMES[levels[i]]).append('"')
+              .append(",\"tag\":").append(tags[i])
+              .append(",\"msg\":\"");
+            escape(text, sb);
+            sb.append('"');
+            if (numArgs[i] > 0) sb.append(",\"a\":").append(argA[i]);
+            if (numArgs[i] > 1) sb.append(",\"b\":").append(argB[i]);
+            if (obj instanceof Throwable) {
+                sb.append(",\"error\":\"");
+                escape(stackTrace((Throwable) obj), sb);
+                sb.append('"');
+            }
+            sb.append('}');
+        } else {
+            sb.append(Instant.ofEpochMilli(timestamps[i])).append(' ')
+              .append(LEVEL_NAMES[levels[i]]).append(' ');
+            if (tags[i] != NO_TAG) sb.append("[room ").append(tags[i]).append("] ");
+            sb.append(text);
+            if (obj instanceof Throwable) sb.append(System.lineSeparator()).append(stackTrace((Throwable) obj).stripTrailing());
+        }
+    }
+
+    private static String stackTrace(Throwable t) {
+        StringWriter trace = new StringWriter();
+        t.printStackTrace(new PrintWriter(trace));
+        return trace.toString();
+    }
+
+    private static String render(String msg, int argCount, long a, long b, Object obj) {
+        StringBuilder sb = new StringBuilder(msg.length() + 32);
+        int arg = 0;
+        int from = 0;
+        int at;
+        while ((at = msg.indexOf("{}", from)) >= 0) {
+            sb.append(msg, from, at);
+            if (arg < argCount) sb.append(arg == 0 ? a : b);
+            else if (arg == argCount && obj != null && !(obj instanceof Throwable)) sb.append(obj);
+            else sb.append("{}");
+            arg++;
+            from = at + 2;
+        }
+        sb.append(msg, from, msg.length());
+        if (obj instanceof Throwable) sb.append(": ").append(obj);
+        return sb.toString();
+    }
+
+    private static void escape(String text, StringBuilder sb) {
+        for (int k = 0; k < text.length(); k++) {
+            char c = text.charAt(k);
+            if (c == '"' || c == '\\') sb.append('\\').append(c);
+            else if (c == '\n') sb.append("\\n");
+            else if (c == '\t') sb.append("\\t");
+            else if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+            else sb.append(c);
+        }
+    }
+
+    private static int parseLevel(String name) {
+        for (int i = 0; i < LEVEL_NAMES.length; i++) {
+            if (LEVEL_NAMES[i].equalsIgnoreCase(name)) return i;
+        }
+        return INFO;
+    }
+
+    private static PrintStream openOutput(String file) {
+        if (file == null) return System.out;
+        try {
+            OutputStream stream = new FileOutputStream(file, true);
+            return new PrintStream(stream, false, "UTF-8");
+        } catch (IOException e) {
+            e.printStackTrace();
+            return System.out;
+        }
+    }
+}
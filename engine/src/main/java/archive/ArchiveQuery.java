@@ -0,0 +1,134 @@
+package archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * کوئری‌های تحلیلی روی آرشیو ستونی
+ * سگمنت‌ها و بازی‌های داخل هر سگمنت با parallel stream پیمایش می‌شوند و
+ * نتایج جزئی در آرایه‌های اولیه جمع و در پایان با هم ادغام می‌شوند.
+ */
+public class ArchiveQuery {
+    private final List<ArchiveSegment> segments;
+
+    public ArchiveQuery(List<ArchiveSegment> segments) {
+        this.segments = segments;
+    }
+
+    public static ArchiveQuery open(Path root) {
+        List<ArchiveSegment> segments = new ArrayList<>();
+        if (!Files.isDirectory(root)) return new ArchiveQuery(segments);
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, ArchiveWriter.SEGMENT_PREFIX + "*")) {
+            for (Path dir : dirs) {
+                if (ArchiveWriter.segmentNumber(dir.getFileName().toString()) >= 0) segments.add(new ArchiveSegment(dir));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ArchiveQuery(segments);
+    }
+
+    public long gameCount() {
+        return segments.stream().mapToLong(ArchiveSegment::gameCount).sum();
+    }
+
+    /**
+     * تعداد خانه‌ها در بزرگ‌ترین صفحه‌ای که در آرشیو دیده شده؛ طول آرایه‌های خروجی کوئری‌ها
+     */
+    public int tileCount() {
+        return segments.stream().mapToInt(ArchiveSegment::tileCount).max().orElse(0);
+    }
+
+    /**
+     * تعداد دفعات فرود روی هر خانه (اندیس آرایه = شماره خانه)
+     */
+    public long[] landingsPerTile() {
+        return scan(tileCount(), (seg, game, acc) -> {
+            int end = seg.gameStart(game) + seg.gameLength(game);
+            for (int e = seg.gameStart(game); e < end; e++) {
+                if (seg.type(e) == GameRecorder.ROLL) acc[seg.tile(e)]++;
+            }
+        });
+    }
+
+    /**
+     * مجموع اجاره دریافتی به تفکیک گروه رنگی
+     * @param colorOfTile گروه رنگی هر خانه (اندیس = شماره خانه)؛ خانه‌های بیرون از این آرایه در نتیجه نمی‌آیند
+     */
+    public Map<String, Long> rentYieldPerColorGroup(String[] colorOfTile) {
+        long[] rentPerTile = scan(tileCount(), (seg, game, acc) -> {
+            int end = seg.gameStart(game) + seg.gameLength(game);
+            for (int e = seg.gameStart(game); e < end; e++) {
+                if (seg.type(e) == GameRecorder.RENT) acc[seg.tile(e)] += seg.amount(e);
+            }
+        });
+
+        Map<String, Long> result = new HashMap<>();
+        for (int tile = 0; tile < Math.min(rentPerTile.length, colorOfTile.length); tile++) {
+            if (rentPerTile[tile] > 0) result.merge(colorOfTile[tile], rentPerTile[tile], Long::sum);
+        }
+        return result;
+    }
+
+    /**
+     * درصد برد بازیکنانی که اولین خریدشان هر خانه بوده (اندیس = شماره خانه، NaN یعنی بدون داده)
+     */
+    public double[] winRateByFirstPurchase() {
+        int tiles = tileCount();
+        // نیمه اول آرایه: تعداد دفعات اولین خرید، نیمه دوم: تعداد برد
+        long[] counts = scan(tiles * 2, (seg, game, acc) -> {
+            int winner = seg.gameWinner(game);
+            // بازیکنانی که اولین خریدشان دیده شده؛ شناسه‌ها از ۱ تا تعداد بازیکن بازی (حداکثر ۲۵۴)
+            BitSet seen = new BitSet(seg.gamePlayers(game) + 1);
+            int end = seg.gameStart(game) + seg.gameLength(game);
+            for (int e = seg.gameStart(game); e < end; e++) {
+                if (seg.type(e) != GameRecorder.PURCHASE) continue;
+                int p = seg.player(e);
+                if (seen.get(p)) continue;
+                seen.set(p);
+                acc[seg.tile(e)]++;
+                if (p == winner) acc[tiles + seg.tile(e)]++;
+            }
+        });
+
+        double[] rates = new double[tiles];
+        for (int tile = 0; tile < rates.length; tile++) {
+            rates[tile] = counts[tile] == 0 ? Double.NaN
+                    : (double) counts[tiles + tile] / counts[tile];
+        }
+        return rates;
+    }
+
+    // پیمایش موازی همه بازی‌ها؛ هر ترد آرایه شمارنده خودش را پر می‌کند
+    private long[] scan(int width, GameScan scan) {
+        return segments.parallelStream()
+                .map(seg -> IntStream.range(0, seg.gameCount()).parallel().collect(
+                        () -> new long[width],
+                        (acc, game) -> scan.accept(seg, game, acc),
+                        ArchiveQuery::addInto))
+                .reduce(new long[width], ArchiveQuery::sum);
+    }
+
+    private interface GameScan {
+        void accept(ArchiveSegment seg, int game, long[] acc);
+    }
+
+    private static void addInto(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) target[i] += source[i];
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        long[] result = a.clone();
+        addInto(result, b);
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * یک سگمنت فقط‌خواندنی از آرشیو که ستون‌هایش به حافظه نگاشت (mmap) شده‌اند.
+ * ستون‌های رویداد: turn, player, type, tile, amount
+ * ستون‌های بازی: game_start, game_len, game_winner, game_players
+ * ستون‌های player, type, tile, game_winner و game_players یک بایتی (به جز type بدون علامت، تا ۲۵۴ بازیکن) و بقیه
+ * اعداد صحیح چهار بایتی little-endian هستند.
+ */
+public class ArchiveSegment {
+    static final String TURN = "turn.col";
+    static final String PLAYER = "player.col";
+    static final String TYPE = "type.col";
+    static final String TILE = "tile.col";
+    static final String AMOUNT = "amount.col";
+    static final String GAME_START = "game_start.col";
+    static final String GAME_LEN = "game_len.col";
+    static final String GAME_WINNER = "game_winner.col";
+    static final String GAME_PLAYERS = "game_players.col";
+
+    private final Path dir;
+    private final ByteBuffer turn;
+    private final ByteBuffer player;
+    private final ByteBuffer type;
+    private final ByteBuffer tile;
+    private final ByteBuffer amount;
+    private final ByteBuffer gameStart;
+    private final ByteBuffer gameLen;
+    private final ByteBuffer gameWinner;
+    private final ByteBuffer gamePlayers;
+    private final int eventCount;
+    private final int gameCount;
+    private int tileCount = -1; // محاسبه تنبل، بعد از اولین tileCount()
+
+    public ArchiveSegment(Path dir) throws IOException {
+        this.dir = dir;
+        this.turn = map(TURN);
+        this.player = map(PLAYER);
+        this.type = map(TYPE);
+        this.tile = map(TILE);
+        this.amount = map(AMOUNT);
+        this.gameStart = map(GAME_START);
+        this.gameLen = map(GAME_LEN);
+        this.gameWinner = map(GAME_WINNER);
+        this.gamePlayers = map(GAME_PLAYERS);
+        // اگر نوشتن یک بازی نیمه‌کاره مانده باشد، فقط رویدادها و بازی‌های کامل را می‌شماریم
+        int events = Math.min(Math.min(turn.capacity() / 4, amount.capacity() / 4),
+                Math.min(player.capacity(), Math.min(type.capacity(), tile.capacity())));
+        int games = Math.min(Math.min(gameStart.capacity() / 4, gameLen.capacity() / 4),
+                Math.min(gameWinner.capacity(), gamePlayers.capacity()));
+        while (games > 0 && gameStart.getInt((games - 1) * 4) + gameLen.getInt((games - 1) * 4) > events) {
+            games--;
+        }
+        this.eventCount = events;
+        this.gameCount = games;
+    }
+
+    private ByteBuffer map(String column) throws IOException {
+        Path file = dir.resolve(column);
+        if (!Files.exists(file)) return ByteBuffer.allocate(0).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    public Path getDirectory() { return dir; }
+    public int eventCount() { return eventCount; }
+    public int gameCount() { return gameCount; }
+
+    /**
+     * بزرگ‌ترین شماره خانه در رویدادها + ۱؛ صفحه‌های مختلف (تا Ruleset.MAX_TILES) در یک آرشیو جمع می‌شوند
+     * و آرایه‌های کوئری باید به اندازه بزرگ‌ترین آن‌ها باشند. یک بار پیمایش و نگه داشته می‌شود.
+     */
+    public synchronized int tileCount() {
+        if (tileCount < 0) {
+            int max = -1;
+            for (int e = 0; e < eventCount; e++) max = Math.max(max, tile(e));
+            tileCount = max + 1;
+        }
+        return tileCount;
+    }
+
+    // --- ستون‌های رویداد (index سراسری داخل سگمنت) ---
+    public int turn(int event) { return turn.getInt(event * 4); }
+    public int player(int event) { return player.get(event) & 0xFF; }
+    public int type(int event) { return type.get(event); }
+    public int tile(int event) { return tile.get(event) & 0xFF; }
+    public int amount(int event) { return amount.getInt(event * 4); }
+
+    // --- ستون‌های بازی ---
+    public int gameStart(int game) { return gameStart.getInt(game * 4); }
+    public int gameLength(int game) { return gameLen.getInt(game * 4); }
+    public int gameWinner(int game) { return gameWinner.get(game) & 0xFF; }
+    public int gamePlayers(int game) { return gamePlayers.get(game) & 0xFF; }
+}
@@ -0,0 +1,172 @@
+package archive;
+
+import utils.Constants;
+import utils.Log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * نوشتن بازی‌های تمام‌شده در آرشیو ستونی
+ * نوشتن روی یک ترد پس‌زمینه انجام می‌شود تا قفل موتور بازی معطل دیسک نشود.
+ * هر اجرای سرور یک سگمنت تازه باز می‌کند و وقتی سگمنت پر شد سگمنت بعدی ساخته می‌شود.
+ * فایل‌های ستون سگمنت جاری تا پر شدنش باز می‌مانند، پس هر بازی فقط چند write است و نه ۹ open/close.
+ */
+public class ArchiveWriter {
+    static final String SEGMENT_PREFIX = "seg-";
+    private static final int MAX_SEGMENT_EVENTS = 1 << 24;
+
+    // ترتیب ستون‌ها در channels
+    private static final String[] COLUMNS = {
+            ArchiveSegment.TURN, ArchiveSegment.PLAYER, ArchiveSegment.TYPE, ArchiveSegment.TILE, ArchiveSegment.AMOUNT,
+            ArchiveSegment.GAME_START, ArchiveSegment.GAME_LEN, ArchiveSegment.GAME_PLAYERS, ArchiveSegment.GAME_WINNER
+    };
+    private static final int TURN = 0, PLAYER = 1, TYPE = 2, TILE = 3, AMOUNT = 4;
+    private static final int GAME_START = 5, GAME_LEN = 6, GAME_PLAYERS = 7, GAME_WINNER = 8;
+
+    private static ArchiveWriter instance;
+
+    private final Path root;
+    private final ExecutorService executor;
+    private int segmentIndex;
+    private int segmentEvents;
+    private Path segment;
+    private final FileChannel[] channels = new FileChannel[COLUMNS.length]; // فقط روی ترد archive-writer
+
+    public ArchiveWriter(Path root) {
+        this.root = root;
+        this.segmentIndex = -1;
+        this.segmentEvents = 0;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "archive-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public static synchronized ArchiveWriter getInstance() {
+        if (instance == null) instance = new ArchiveWriter(Paths.get(Constants.ARCHIVE_DIR));
+        return instance;
+    }
+
+    /**
+     * ثبت یک بازی تمام‌شده. ضبط‌کننده بعد از این فراخوانی نباید تغییر کند.
+     */
+    public void archive(GameRecorder recorder, int winnerId, int playerCount) {
+        executor.execute(() -> {
+            try {
+                write(recorder, winnerId, playerCount);
+            } catch (IOException e) {
+                Log.error(Log.NO_TAG, "Failed to archive game", e);
+            }
+        });
+    }
+
+    private void write(GameRecorder recorder, int winnerId, int playerCount) throws IOException {
+        int events = recorder.size();
+        if (segment == null || segmentEvents + events > MAX_SEGMENT_EVENTS) openNextSegment();
+
+        appendInts(TURN, recorder.turnColumn(), events);
+        appendBytes(PLAYER, recorder.playerColumn(), events);
+        appendBytes(TYPE, recorder.typeColumn(), events);
+        appendBytes(TILE, recorder.tileColumn(), events);
+        appendInts(AMOUNT, recorder.amountColumn(), events);
+
+        // جدول بازی‌ها بعد از رویدادها نوشته می‌شود تا خواننده هیچ‌وقت بازی ناقص نبیند
+        appendInts(GAME_START, new int[]{segmentEvents}, 1);
+        appendInts(GAME_LEN, new int[]{events}, 1);
+        appendBytes(GAME_PLAYERS, new byte[]{(byte) playerCount}, 1);
+        appendBytes(GAME_WINNER, new byte[]{(byte) winnerId}, 1);
+
+        segmentEvents += events;
+    }
+
+    private void openNextSegment() throws IOException {
+        if (segmentIndex < 0) {
+            Files.createDirectories(root);
+            try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, SEGMENT_PREFIX + "*")) {
+                for (Path dir : dirs) {
+                    int index = segmentNumber(dir.getFileName().toString());
+                    if (index < 0) {
+                        Log.warn(Log.NO_TAG, "Skipping unrecognized archive entry {}", dir);
+                        continue;
+                    }
+                    segmentIndex = Math.max(segmentIndex, index);
+                }
+            }
+        }
+        closeSegment();
+        segmentIndex++;
+        segment = root.resolve(String.format("%s%05d", SEGMENT_PREFIX, segmentIndex));
+        Files.createDirectories(segment);
+        segmentEvents = 0;
+        for (int c = 0; c < COLUMNS.length; c++) {
+            channels[c] = FileChannel.open(segment.resolve(COLUMNS[c]),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+    }
+
+    private void closeSegment() throws IOException {
+        IOException failure = null;
+        for (int c = 0; c < channels.length; c++) {
+            if (channels[c] == null) continue;
+            try {
+                channels[c].close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+            }
+            channels[c] = null;
+        }
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * شماره سگمنت از نام seg-NNNNN؛ برای نام‌های دیگر (مثلاً seg-old) منفی
+     */
+    static int segmentNumber(String name) {
+        if (!name.startsWith(SEGMENT_PREFIX) || name.length() == SEGMENT_PREFIX.length()
+                || name.length() > SEGMENT_PREFIX.length() + 9) return -1;
+        for (int i = SEGMENT_PREFIX.length(); i < name.length(); i++) {
+            if (name.charAt(i) < '0' || name.charAt(i) > '9') return -1;
+        }
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length()));
+    }
+
+    private void appendInts(int column, int[] values, int count) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(count * 4).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(values, 0, count);
+        append(column, buffer);
+    }
+
+    private void appendBytes(int column, byte[] values, int count) throws IOException {
+        append(column, ByteBuffer.wrap(values, 0, count));
+    }
+
+    private void append(int column, ByteBuffer buffer) throws IOException {
+        FileChannel channel = channels[column];
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    /**
+     * بعد از نوشتن بازی‌های در صف، فایل‌های سگمنت جاری بسته می‌شوند
+     */
+    public void shutdown() {
+        executor.execute(() -> {
+            try {
+                closeSegment();
+            } catch (IOException e) {
+                Log.error(Log.NO_TAG, "Failed to close archive segment", e);
+            }
+        });
+        executor.shutdown();
+    }
+}
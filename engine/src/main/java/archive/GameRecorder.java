@@ -0,0 +1,88 @@
+package archive;
+
+import java.util.Arrays;
+
+/**
+ * ضبط رویدادهای یک بازی در حال اجرا به صورت ستونی (آرایه‌های اولیه)
+ * هر رویداد یک سطر است و هر فیلد در آرایه جداگانه نگه‌داری می‌شود تا
+ * در پایان بازی مستقیماً به فایل‌های ستونی آرشیو نوشته شود.
+ */
+public class GameRecorder {
+    public static final byte ROLL = 0;      // amount = مجموع تاس، tile = خانه فرود
+    public static final byte RENT = 1;      // amount = اجاره پرداختی، tile = ملک
+    public static final byte PURCHASE = 2;  // amount = قیمت خرید، tile = ملک
+    public static final byte BUILD = 3;     // amount = هزینه ساخت، tile = ملک
+    public static final byte BANKRUPT = 4;  // amount = 0، tile = موقعیت بازیکن
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int[] turns;
+    private byte[] players;
+    private byte[] types;
+    private byte[] tiles;
+    private int[] amounts;
+    private int size;
+    private int currentTurn;
+
+    public GameRecorder() {
+        this.turns = new int[INITIAL_CAPACITY];
+        this.players = new byte[INITIAL_CAPACITY];
+        this.types = new byte[INITIAL_CAPACITY];
+        this.tiles = new byte[INITIAL_CAPACITY];
+        this.amounts = new int[INITIAL_CAPACITY];
+        this.size = 0;
+        this.currentTurn = 0;
+    }
+
+    public void nextTurn() {
+        currentTurn++;
+    }
+
+    public void roll(int playerId, int total, int landedTile) {
+        record(playerId, ROLL, landedTile, total);
+    }
+
+    public void rent(int payerId, int tileId, int amount) {
+        record(payerId, RENT, tileId, amount);
+    }
+
+    public void purchase(int playerId, int tileId, int price) {
+        record(playerId, PURCHASE, tileId, price);
+    }
+
+    public void build(int playerId, int tileId, int cost) {
+        record(playerId, BUILD, tileId, cost);
+    }
+
+    public void bankrupt(int playerId, int tileId) {
+        record(playerId, BANKRUPT, tileId, 0);
+    }
+
+    private void record(int playerId, byte type, int tileId, int amount) {
+        if (size == turns.length) grow();
+        turns[size] = currentTurn;
+        players[size] = (byte) playerId;
+        types[size] = type;
+        tiles[size] = (byte) tileId;
+        amounts[size] = amount;
+        size++;
+    }
+
+    private void grow() {
+        int newCapacity = turns.length * 2;
+        turns = Arrays.copyOf(turns, newCapacity);
+        players = Arrays.copyOf(players, newCapacity);
+        types = Arrays.copyOf(types, newCapacity);
+        tiles = Arrays.copyOf(tiles, newCapacity);
+        amounts = Arrays.copyOf(amounts, newCapacity);
+    }
+
+    // --- دسترسی به ستون‌ها برای نویسنده آرشیو (فقط size عنصر اول معتبر است) ---
+    public int size() { return size; }
+    public int getTurnCount() { return currentTurn + 1; }
+    int[] turnColumn() { return turns; }
+    byte[] playerColumn() { return players; }
+    byte[] typeColumn() { return types; }
+    byte[] tileColumn() { return tiles; }
+    int[] amountColumn() { return amounts; }
+}
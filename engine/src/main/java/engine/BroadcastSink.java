@@ -0,0 +1,15 @@
+package engine;
+
+/**
+ * مقصد پیام‌های همگانی GameEngine
+ * سرور آن را به ClientRegistry اتاق وصل می‌کند؛ بنچمارک‌ها و شبیه‌سازی‌ها پیام‌ها را دور می‌ریزند.
+ */
+@FunctionalInterface
+public interface BroadcastSink {
+    void broadcast(String message);
+
+    // پیامی که حین اجرای یک دستور trace‌شده تولید شده؛ sinkهایی که trace را نمی‌شناسند فقط متن را می‌گیرند
+    default void broadcast(String message, CommandTrace trace) {
+        broadcast(message);
+    }
+}
@@ -0,0 +1,35 @@
+package engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * رویداد JFR برای هر دستور بازیکن؛ مدت آن از قبل از گرفتن قفل اتاق تا آماده شدن پاسخ است
+ * وقتی ضبط فعال نیست begin/commit کاری نمی‌کنند و JIT شیء رویداد را حذف می‌کند.
+ */
+@Name("monopoly.Command")
+@Label("Command")
+@Category({"Monopoly", "Server"})
+@Description("A player command executed by GameEngine")
+@StackTrace(false)
+class CommandEvent extends Event {
+    @Label("Room")
+    int room;
+
+    @Label("Player")
+    int player;
+
+    @Label("Opcode")
+    String opcode;
+
+    @Label("Result")
+    String result;
+
+    @Label("Trace Id")
+    @Description("Correlation id assigned by ClientHandler, 0 if tracing is off")
+    long traceId;
+}
@@ -0,0 +1,17 @@
+package engine;
+
+/**
+ * آمار JMX یک نوع دستور (monopoly:type=Command,opcode=...)
+ */
+public interface CommandStatsMXBean {
+    long getCount();
+    long getErrors();
+    double getExecMeanMicros();
+    double getExecP50Micros();
+    double getExecP99Micros();
+    double getExecMaxMicros();
+    double getLockWaitP99Micros();
+    double getFanoutP99Micros();
+
+    void reset();
+}
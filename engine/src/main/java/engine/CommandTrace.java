@@ -0,0 +1,114 @@
+package engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * مسیر یک دستور ورودی با شناسه همبستگی (correlation id)
+ * ClientHandler آن را هنگام خواندن خط می‌سازد، موتور زمان گرفتن قفل و پایان اجرا را ثبت می‌کند،
+ * پیام‌های همگانی همان دستور با همین شیء در outbox گیرنده‌ها قرار می‌گیرند و ترد نویسنده هر گیرنده
+ * زمان نوشتن روی سوکت را گزارش می‌دهد. خود شیء هم به‌عنوان پاسخ در outbox فرستنده قرار می‌گیرد.
+ *
+ * همه زمان‌ها System.nanoTime هستند؛ اگر از آستانه SlowTraceBuffer بگذرند، trace در بافر نگه داشته می‌شود
+ * و تحویل‌های بعدی همچنان روی همان شیء ثبت می‌شوند.
+ */
+public final class CommandTrace {
+    private static final AtomicLong IDS = new AtomicLong();
+
+    final long id;
+    final int room;
+    final int player;
+    final String command;
+    final long received;
+
+    private long lockAcquired;
+    private long executed;
+    private int broadcasts;
+    private String response;
+    private long responseWritten;
+    private long lastDelivery;
+    private int slowestRecipient;
+    private int deliveries;
+    private boolean captured;
+
+    public CommandTrace(int room, int player, String command) {
+        this.id = IDS.incrementAndGet();
+        this.room = room;
+        this.player = player;
+        this.command = command;
+        this.received = System.nanoTime();
+    }
+
+    /**
+     * زمان گرفتن قفل اتاق و پایان اجرا در موتور، و تعداد پیام‌های همگانی دستور
+     */
+    public long getId() {
+        return id;
+    }
+
+    synchronized void executed(long lockAcquired, long executed, int broadcasts) {
+        this.lockAcquired = lockAcquired;
+        this.executed = executed;
+        this.broadcasts = broadcasts;
+    }
+
+    public synchronized void setResponse(String response) {
+        this.response = response;
+    }
+
+    public synchronized String getResponse() {
+        return response;
+    }
+
+    /**
+     * پاسخ دستور روی سوکت فرستنده نوشته شد
+     */
+    public synchronized void responseWritten(long now, SlowTraceBuffer buffer) {
+        responseWritten = now;
+        checkSlow(now, buffer);
+    }
+
+    /**
+     * یکی از پیام‌های همگانی این دستور روی سوکت گیرنده recipient نوشته شد
+     */
+    public synchronized void delivered(int recipient, long now, SlowTraceBuffer buffer) {
+        deliveries++;
+        if (now > lastDelivery) {
+            lastDelivery = now;
+            slowestRecipient = recipient;
+        }
+        checkSlow(now, buffer);
+    }
+
+    private void checkSlow(long now, SlowTraceBuffer buffer) {
+        if (!captured && now - received >= buffer.getThresholdNanos()) {
+            captured = true;
+            buffer.add(this);
+        }
+    }
+
+    /**
+     * یک خط خوانا؛ زمان هر مرحله نسبت به خواندن دستور (میلی‌ثانیه)
+     */
+    synchronized String describe() {
+        StringBuilder sb = new StringBuilder(192);
+        sb.append("trace=").append(id)
+                .append(" room=").append(room)
+                .append(" player=").append(player)
+                .append(" command=").append(command)
+                .append(" lock_acquired=").append(since(lockAcquired))
+                .append(" executed=").append(since(executed))
+                .append(" response_written=").append(since(responseWritten))
+                .append(" broadcasts=").append(broadcasts)
+                .append(" deliveries=").append(deliveries);
+        if (deliveries > 0) {
+            sb.append(" last_delivery=").append(since(lastDelivery)).append(" to_player=").append(slowestRecipient);
+        }
+        sb.append(" response=\"").append(response).append('"');
+        return sb.toString();
+    }
+
+    private String since(long timestamp) {
+        if (timestamp == 0) return "-";
+        return String.format("%.3fms", (timestamp - received) / 1e6);
+    }
+}
@@ -0,0 +1,588 @@
+package engine;
+
+import archive.ArchiveWriter;
+import archive.GameRecorder;
+import ds.list.Node;
+import model.BoardDefinition;
+import model.BoardState;
+import model.Card;
+import model.CardDeck;
+import model.GameState;
+import model.Player;
+import model.Property;
+import model.Ruleset;
+import model.Tile;
+import model.TileType;
+import utils.Log;
+
+import jdk.jfr.FlightRecorder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GameEngine {
+    private static final AtomicInteger ROOM_IDS = new AtomicInteger();
+
+    private final int roomId;
+    private GameState gameState;
+    private Ruleset rules;
+    private BoardDefinition board; // صفحه مشترک بین همه اتاق‌ها
+    private BoardState state; // مالک، ساختمان و رهن هر خانه با شناسه آن
+    private TurnManager turnManager;
+    private final BroadcastSink sink;
+    private ServerMetrics metrics = ServerMetrics.getInstance(); // null یعنی بدون اندازه‌گیری
+    private boolean timing;   // دستور جاری نمونه است (زیر قفل)
+    private long fanoutNanos; // زمان پخش پیام‌های دستور جاری
+    private CommandTrace currentTrace; // trace دستور جاری (زیر قفل) یا null
+    private int traceBroadcasts;
+    private boolean archiving = true; // ذخیره بازی تمام‌شده در آرشیو ستونی
+    private Runnable onGameOver; // سرور اتاق را بعد از GAME_OVER می‌بندد
+    private final NetWorthLeaderboard.Room leaderboard; // رده‌بندی این اتاق؛ بعد از close به‌روز نمی‌شود
+
+    private CardDeck chanceDeck;
+    private CardDeck communityDeck;
+
+    // ضبط رویدادهای بازی برای آرشیو ستونی پس از پایان بازی
+    private GameRecorder recorder;
+
+    public GameEngine(TurnManager turnManager, GameState gameState, BroadcastSink sink) {
+        this.sink = sink;
+        this.roomId = ROOM_IDS.getAndIncrement();
+        this.gameState = gameState;
+        this.rules = gameState.getRuleset();
+        this.board = gameState.getDefinition();
+        this.state = gameState.getBoardState();
+        this.turnManager = turnManager;
+        this.chanceDeck = CardDeck.chance(rules);
+        this.communityDeck = CardDeck.communityChest(rules);
+        this.recorder = new GameRecorder();
+        this.leaderboard = NetWorthLeaderboard.getInstance().openRoom(roomId, rules.getMaxPlayers());
+    }
+
+    /**
+     * ثبت رویدادهای JFR موتور؛ اولین استفاده از jdk.jfr چند صد میلی‌ثانیه طول می‌کشد و بهتر است هنگام شروع سرور باشد
+     */
+    public static void registerEvents() {
+        FlightRecorder.register(CommandEvent.class);
+        FlightRecorder.register(TurnEvent.class);
+    }
+
+    /**
+     * اجرای یک دستور بازیکن زیر قفل اتاق؛ تعداد و خطا همیشه و زمان‌ها برای دستورهای نمونه در ServerMetrics ثبت می‌شوند
+     * و اگر ضبط JFR فعال باشد یک رویداد monopoly.Command هم ثبت می‌شود.
+     */
+    public String executeCommand(int playerId, String command) {
+        return executeCommand(playerId, command, null);
+    }
+
+    /**
+     * مانند executeCommand؛ زمان گرفتن قفل و پایان اجرا روی trace ثبت می‌شود و پیام‌های همگانی با آن همراه می‌شوند
+     */
+    public String executeCommand(int playerId, String command, CommandTrace trace) {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        String response = executeMeasured(playerId, command, trace);
+        if (event.shouldCommit()) {
+            event.room = roomId;
+            event.player = playerId;
+            event.opcode = ServerMetrics.OPCODES[ServerMetrics.opcodeOf(command)];
+            event.result = response;
+            event.traceId = trace == null ? 0 : trace.id;
+            event.commit();
+        }
+        return response;
+    }
+
+    private String executeMeasured(int playerId, String command, CommandTrace trace) {
+        ServerMetrics m = metrics;
+        boolean sampled = m != null && m.sample();
+        if (!sampled && trace == null) {
+            String response;
+            synchronized (this) {
+                response = dispatch(playerId, command);
+            }
+            if (m != null) m.recordCommand(ServerMetrics.opcodeOf(command), response.startsWith("ERROR"));
+            return response;
+        }
+
+        long requested = trace != null ? trace.received : System.nanoTime();
+        long acquired, finished, fanout;
+        String response;
+        synchronized (this) {
+            acquired = System.nanoTime();
+            timing = sampled;
+            fanoutNanos = 0;
+            traceBroadcasts = 0;
+            currentTrace = trace;
+            response = dispatch(playerId, command);
+            finished = System.nanoTime();
+            fanout = fanoutNanos;
+            timing = false;
+            currentTrace = null;
+            if (trace != null) trace.executed(acquired, finished, traceBroadcasts);
+        }
+        if (m == null) return response;
+
+        // زمان پخش جزو اجرا نیست تا کندی کلاینت‌ها با کندی منطق بازی اشتباه نشود
+        int op = ServerMetrics.opcodeOf(command);
+        m.recordCommand(op, response.startsWith("ERROR"));
+        if (sampled) m.recordTiming(op, acquired - requested, finished - acquired - fanout, fanout);
+        return response;
+    }
+
+    private String dispatch(int playerId, String command) {
+        if (!gameState.isGameStarted()) return "WAIT: Game has not started.";
+        Player player = gameState.getPlayer(playerId);
+
+        // بازیکنی که در نوبت خودش ورشکست شده هنوز باید بتواند نوبت را تمام کند
+        if (player.isBankrupt() && !command.startsWith("END")) return "ERROR: You are bankrupt!";
+        if (!turnManager.isTurn(playerId - 1)) return "ERROR: Not your turn.";
+
+        if (command.startsWith("ROLL")) {
+            if (turnManager.hasRolled()) return "ERROR: You have already rolled!";
+            return rollDice(playerId);
+        } else if (command.startsWith("BUY")) {
+            if (!turnManager.hasRolled()) return "ERROR: You must roll dice first!";
+            return buyProperty(playerId);
+        } else if (command.startsWith("BUILD")) {
+            return buildHouse(playerId);
+        } else if (command.startsWith("MORTGAGE")) {
+            return mortgageProperty(playerId);
+        } else if (command.startsWith("UNMORTGAGE")) {
+            return unmortgageProperty(playerId);
+        } else if (command.startsWith("TRADE")) {
+            // منطق معامله با استفاده از گراف
+            return executeTrade(playerId, command);
+        } else if (command.startsWith("END")) {
+            if (!turnManager.hasRolled()) return "ERROR: You must roll dice before ending turn!";
+            turnManager.nextTurn();
+            recorder.nextTurn();
+
+            while (gameState.getPlayer(turnManager.getCurrentPlayerIndex() + 1).isBankrupt()) {
+                turnManager.nextTurn();
+            }
+            broadcast("TURN:" + (turnManager.getCurrentPlayerIndex() + 1));
+            return "SUCCESS: Turn ended.";
+        }
+        return "ERROR: Unknown command.";
+    }
+
+    // --- متد اجرای معامله با استفاده از گراف ---
+    private String executeTrade(int senderId, String command) {
+        // فرمت دستور: TRADE:targetId:offerAmount:requestAmount
+        try {
+            String[] parts = command.split(":");
+            if (parts.length < 4) return "ERROR: Invalid trade format.";
+
+            int targetId = Integer.parseInt(parts[1]);
+            int offer = Integer.parseInt(parts[2]);   // پولی که من می‌دهم
+            int request = Integer.parseInt(parts[3]); // پولی که می‌خواهم
+
+            if (senderId == targetId) return "ERROR: Cannot trade with yourself.";
+
+            Player sender = gameState.getPlayer(senderId);
+            Player target = gameState.getPlayer(targetId);
+
+            if (target == null) return "ERROR: Player not found.";
+            if (target.isBankrupt()) return "ERROR: Player is bankrupt.";
+
+            // بررسی موجودی
+            if (sender.getMoney() < offer) return "ERROR: You don't have enough money to offer.";
+            if (target.getMoney() < request) return "ERROR: Target doesn't have enough money.";
+
+            // انجام تراکنش مالی
+            sender.setMoney(sender.getMoney() - offer + request);
+            target.setMoney(target.getMoney() + offer - request);
+
+            // --- استفاده از MyGraph برای ثبت تراکنش ---
+            int senderIndex = senderId - 1;
+            int targetIndex = targetId - 1;
+
+            // اگر Sender مبلغی پیشنهاد داده، در گراف ثبت می‌شود (یال از Sender به Target)
+            if (offer > 0) {
+                gameState.getTransactionGraph().addTransaction(senderIndex, targetIndex, offer);
+            }
+            // اگر Sender مبلغی درخواست کرده (یعنی Target پول می‌دهد)، یال از Target به Sender ثبت می‌شود
+            if (request > 0) {
+                gameState.getTransactionGraph().addTransaction(targetIndex, senderIndex, request);
+            }
+
+            // اطلاع‌رسانی به همه
+            broadcast("LOG:Trade! P" + senderId + " gave $" + offer + " <-> P" + targetId + " gave $" + request);
+            broadcastPlayerState(sender);
+            broadcastPlayerState(target);
+
+            return "SUCCESS: Trade completed.";
+
+        } catch (Exception e) {
+            Log.error(roomId, "Trade failed", e);
+            return "ERROR: Invalid trade command.";
+        }
+    }
+
+    // --- متد خرید ملک با به‌روزرسانی درخت دارایی ---
+    private String buyProperty(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        Node currentNode = findNodeById(player.getPosition());
+        Tile tile = (Tile) currentNode.data;
+
+        if (tile instanceof Property) {
+            Property prop = (Property) tile;
+            if (state.getOwner(prop.getId()) == -1 && player.getMoney() >= prop.getPrice()) {
+                player.setMoney(player.getMoney() - prop.getPrice());
+                state.setOwner(prop.getId(), playerId);
+                player.addAssetValue(prop.getPrice());
+                recorder.purchase(playerId, prop.getId(), prop.getPrice());
+
+                // --- تغییر جدید: اضافه کردن به درخت دارایی (AssetTree) ---
+                // ساختار: بازیکن -> رنگ -> اسم ملک
+                player.getAssetTree().addProperty(prop.getColorGroup(), prop.getName(), prop.getId());
+
+                broadcast("OWNER:" + tile.getId() + ":" + playerId);
+                broadcastPlayerState(player);
+
+                // نمای درخت فقط در سطح TRACE ساخته می‌شود تا مسیر عادی دستورات هزینه‌ای نداشته باشد
+                Log.debug(roomId, "Player {} bought tile {}", playerId, prop.getId());
+                if (Log.isEnabled(Log.TRACE)) Log.trace(roomId, "{}", player.getAssetTree().printTree());
+
+                return "SUCCESS: You bought " + prop.getName();
+            }
+        }
+        return "ERROR: Transaction failed.";
+    }
+
+    // --- متد ساخت خانه با به‌روزرسانی درخت دارایی ---
+    private String buildHouse(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        Node currentNode = findNodeById(player.getPosition());
+        Tile tile = (Tile) currentNode.data;
+
+        if (!(tile instanceof Property) || !board.canBuild(tile.getId())) return "ERROR: Can only build on properties.";
+        Property prop = (Property) tile;
+
+        if (state.getOwner(prop.getId()) != playerId) return "ERROR: You don't own this.";
+        if (state.isMortgaged(prop.getId())) return "ERROR: Cannot build on mortgaged property.";
+
+        if (!ownsAllColorGroup(playerId, prop))
+            return "ERROR: Need full color group (" + prop.getColorGroup() + ").";
+
+        if (state.hasHotel(prop.getId())) return "ERROR: Max build reached.";
+        if (player.getMoney() < prop.getBuildCost()) return "ERROR: Not enough money.";
+
+        player.setMoney(player.getMoney() - prop.getBuildCost());
+        player.addAssetValue(prop.getBuildCost());
+        recorder.build(playerId, prop.getId(), prop.getBuildCost());
+
+        if (state.getHouses(prop.getId()) < rules.getMaxHouses()) {
+            state.addHouse(prop.getId());
+            broadcast("LOG:Player " + playerId + " built a HOUSE on " + prop.getName());
+
+            // --- تغییر جدید: اضافه کردن خانه به درخت دارایی ---
+            player.getAssetTree().addBuilding(prop.getId(), false);
+
+        } else {
+            state.setHotel(prop.getId(), true);
+            broadcast("LOG:Player " + playerId + " built a HOTEL on " + prop.getName());
+
+            // --- تغییر جدید: اضافه کردن هتل به درخت دارایی ---
+            player.getAssetTree().addBuilding(prop.getId(), true);
+        }
+
+        Log.debug(roomId, "Player {} built on tile {}", playerId, prop.getId());
+        if (Log.isEnabled(Log.TRACE)) Log.trace(roomId, "{}", player.getAssetTree().printTree());
+
+        int visualCount = state.hasHotel(prop.getId()) ? 5 : state.getHouses(prop.getId());
+        broadcast("HOUSE:" + prop.getId() + ":" + visualCount);
+        broadcastPlayerState(player);
+        return "SUCCESS: Build successful.";
+    }
+
+    private String mortgageProperty(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        Node currentNode = findNodeById(player.getPosition());
+        Tile tile = (Tile) currentNode.data;
+
+        if (!(tile instanceof Property)) return "ERROR: Not a property.";
+        Property prop = (Property) tile;
+
+        if (state.getOwner(prop.getId()) != playerId) return "ERROR: You don't own this.";
+        if (state.isMortgaged(prop.getId())) return "ERROR: Already mortgaged.";
+        if (state.getHouses(prop.getId()) > 0 || state.hasHotel(prop.getId())) return "ERROR: Sell houses first.";
+
+        int loan = prop.getMortgageValue();
+        player.setMoney(player.getMoney() + loan);
+        player.addAssetValue(-(prop.getPrice() - loan)); // ملک رهنی فقط به اندازه ارزش رهن حساب می‌شود
+        state.setMortgaged(prop.getId(), true);
+
+        broadcast("LOG:Player " + playerId + " mortgaged " + prop.getName());
+        broadcast("MORTGAGE_STATE:" + prop.getId() + ":1");
+        broadcastPlayerState(player);
+        return "SUCCESS: Mortgaged " + prop.getName();
+    }
+
+    private String unmortgageProperty(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        Node currentNode = findNodeById(player.getPosition());
+        Tile tile = (Tile) currentNode.data;
+
+        if (!(tile instanceof Property)) return "ERROR: Not a property.";
+        Property prop = (Property) tile;
+
+        if (state.getOwner(prop.getId()) != playerId) return "ERROR: You don't own this.";
+        if (!state.isMortgaged(prop.getId())) return "ERROR: Not mortgaged.";
+
+        int cost = prop.getUnmortgageCost();
+        if (player.getMoney() < cost) return "ERROR: Need $" + cost + " to unmortgage.";
+
+        player.setMoney(player.getMoney() - cost);
+        player.addAssetValue(prop.getPrice() - prop.getMortgageValue());
+        state.setMortgaged(prop.getId(), false);
+
+        broadcast("LOG:Player " + playerId + " unmortgaged " + prop.getName());
+        broadcast("MORTGAGE_STATE:" + prop.getId() + ":0");
+        broadcastPlayerState(player);
+        return "SUCCESS: Property unmortgaged.";
+    }
+
+    private boolean ownsAllColorGroup(int playerId, Property prop) {
+        for (int tile : board.getGroupTiles(board.getGroup(prop.getId()))) {
+            if (state.getOwner(tile) != playerId) return false;
+        }
+        return true;
+    }
+
+    private String rollDice(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        turnManager.setRolled(true);
+
+        int d1 = (int) (Math.random() * 6) + 1;
+        int d2 = (int) (Math.random() * 6) + 1;
+        int total = d1 + d2;
+        boolean isDouble = (d1 == d2);
+
+        if (player.isInJail()) {
+            if (player.getJailFreeCards() > 0) {
+                player.useJailFreeCard();
+                returnJailFreeCard();
+                player.setInJail(false);
+                broadcast("LOG:Player " + playerId + " used a Get out of Jail free card");
+            } else if (isDouble) {
+                player.setInJail(false);
+            } else {
+                player.incrementJailTurn();
+                if (player.getTurnsInJail() >= rules.getMaxJailTurns()) {
+                    player.setMoney(player.getMoney() - rules.getJailFine());
+                    player.setInJail(false);
+                } else {
+                    broadcastPlayerState(player);
+                    return "In Jail. Rolled " + total + ". Stuck.";
+                }
+            }
+        }
+
+        int oldPos = player.getPosition();
+        // استفاده از متد move لیست پیوندی دست‌نویس
+        Node newNode = gameState.getBoard().move(findNodeById(oldPos), total);
+        Tile newTile = (Tile) newNode.data;
+        int newPos = newTile.getId();
+        recorder.roll(playerId, total, newPos);
+
+        if (newTile.getType() == TileType.GO_TO_JAIL) {
+            sendToJail(player);
+            return "Rolled " + total + ". Go Directly to Jail!";
+        }
+
+        player.setPosition(newPos);
+        broadcast("MOVED:" + playerId + ":" + total + ":" + newPos);
+
+        String result = "Rolled " + total + ". Landed on " + newTile.getName();
+        if (newPos < oldPos) {
+            player.setMoney(player.getMoney() + rules.getGoReward());
+            result += " (Passed GO)";
+        }
+
+        handleTileInteraction(player, newTile);
+
+        if (player.getMoney() < 0) {
+            handleBankruptcy(player);
+            result += " (BANKRUPT!)";
+        }
+
+        broadcastPlayerState(player);
+        return result;
+    }
+
+    private void drawCard(Player player, Tile tile) {
+        boolean chance = rules.isDeckByTile() ? tile.getType() == TileType.CHANCE : Math.random() < 0.5;
+        CardDeck deck = chance ? chanceDeck : communityDeck;
+        Card card = deck.draw();
+        if (card == null) return;
+
+        broadcast("LOG:Player " + player.getId() + card.getLogText());
+
+        switch (card.getEffect()) {
+            case MONEY:
+                player.setMoney(player.getMoney() + card.getValue());
+                break;
+            case MOVE_TO:
+                moveByCard(player, card.getValue(), card.getValue() <= player.getPosition());
+                break;
+            case MOVE_RELATIVE:
+                int target = Math.floorMod(player.getPosition() + card.getValue(), board.getTileCount());
+                moveByCard(player, target, card.getValue() > 0 && target < player.getPosition());
+                break;
+            case JAIL:
+                sendToJail(player);
+                break;
+            case GET_OUT_OF_JAIL:
+                player.addJailFreeCard();
+                break;
+        }
+    }
+
+    // بازیکن فقط تعداد کارت‌ها را دارد، پس یکی از کارت‌های بیرون (اول Chance) برمی‌گردد؛ تعداد کارت‌های بیرون دسته‌ها با جمع شمارنده‌ها برابر می‌ماند
+    private void returnJailFreeCard() {
+        if (!chanceDeck.returnJailFreeCard()) communityDeck.returnJailFreeCard();
+    }
+
+    // جابه‌جایی با کارت؛ خانه مقصد مثل فرود عادی پردازش می‌شود
+    private void moveByCard(Player player, int target, boolean passesGo) {
+        if (passesGo) player.setMoney(player.getMoney() + rules.getGoReward());
+        player.setPosition(target);
+        broadcast("MOVED:" + player.getId() + ":0:" + target);
+
+        Tile tile = board.getTile(target);
+        if (tile.getType() == TileType.GO_TO_JAIL) sendToJail(player);
+        else handleTileInteraction(player, tile);
+    }
+
+    private void handleTileInteraction(Player player, Tile tile) {
+        if (tile instanceof Property) {
+            Property prop = (Property) tile;
+            if (state.getOwner(prop.getId()) != -1 && state.getOwner(prop.getId()) != player.getId()) {
+                int rent = calculateRent(prop);
+                if (rent > 0) {
+                    recorder.rent(player.getId(), prop.getId(), rent);
+                    payToPlayer(player, state.getOwner(prop.getId()), rent);
+                }
+            }
+        } else if (tile.getType() == TileType.TAX) {
+            player.setMoney(player.getMoney() - board.getTax(tile.getId()));
+        } else if (tile.getType() == TileType.CHANCE || tile.getType() == TileType.COMMUNITY_CHEST) {
+            drawCard(player, tile);
+        }
+    }
+
+    private int calculateRent(Property prop) {
+        if (state.isMortgaged(prop.getId())) return 0;
+        int id = prop.getId();
+        int houses = state.getHouses(id);
+        boolean hotel = state.hasHotel(id);
+        boolean monopoly = houses == 0 && !hotel && board.isDevelopable(id) && ownsAllColorGroup(state.getOwner(id), prop);
+        return board.getRent(id, houses, hotel, monopoly);
+    }
+
+    private void handleBankruptcy(Player player) {
+        recorder.bankrupt(player.getId(), player.getPosition());
+        player.setBankrupt(true);
+        player.setMoney(0);
+        while (player.getJailFreeCards() > 0) {
+            player.useJailFreeCard();
+            returnJailFreeCard();
+        }
+        player.clearAssets();
+        player.getAssetTree().clear();
+
+        for (int tile = 0; tile < board.getTileCount(); tile++) {
+            if (board.getProperty(tile) != null && state.getOwner(tile) == player.getId()) {
+                state.resetTile(tile);
+                broadcast("OWNER:" + tile + ":-1");
+                broadcast("HOUSE:" + tile + ":0");
+            }
+        }
+
+        checkGameOver();
+    }
+
+    // اگر فقط یک بازیکن باقی مانده باشد، بازی تمام است و تاریخچه آن آرشیو می‌شود
+    private void checkGameOver() {
+        int winnerId = -1;
+        for (int id = 1; id <= rules.getMaxPlayers(); id++) {
+            Player p = gameState.getPlayer(id);
+            if (p == null || p.isBankrupt()) continue;
+            if (winnerId != -1) return;
+            winnerId = id;
+        }
+        if (winnerId == -1) return;
+
+        broadcast("GAME_OVER:" + winnerId);
+        if (archiving) ArchiveWriter.getInstance().archive(recorder, winnerId, rules.getMaxPlayers());
+        recorder = new GameRecorder();
+        if (onGameOver != null) onGameOver.run();
+    }
+
+    private void sendToJail(Player player) {
+        player.setPosition(board.getJailTile());
+        player.setInJail(true);
+        broadcast("MOVED:" + player.getId() + ":0:" + board.getJailTile());
+        broadcastPlayerState(player);
+    }
+
+    private void payToPlayer(Player payer, int receiverId, int amount) {
+        payer.setMoney(payer.getMoney() - amount);
+        Player receiver = gameState.getPlayer(receiverId);
+        if (receiver != null && !receiver.isBankrupt()) {
+            receiver.setMoney(receiver.getMoney() + amount);
+            broadcastPlayerState(receiver);
+        }
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    // بنچمارک‌ها و شبیه‌سازی‌ها بازی‌های تمام‌شده را روی دیسک نمی‌نویسند
+    public void setArchiving(boolean archiving) {
+        this.archiving = archiving;
+    }
+
+    // null اندازه‌گیری را خاموش می‌کند (بنچمارک‌ها برای سنجش سربار)
+    public void setMetrics(ServerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // زیر قفل موتور و بعد از پخش GAME_OVER اجرا می‌شود
+    public void setOnGameOver(Runnable onGameOver) {
+        this.onGameOver = onGameOver;
+    }
+
+    /**
+     * پایان عمر اتاق: بازیکنان این اتاق از رده‌بندی حذف می‌شوند
+     */
+    public void close() {
+        NetWorthLeaderboard.getInstance().closeRoom(leaderboard);
+    }
+
+    private void broadcast(String message) {
+        CommandTrace trace = currentTrace;
+        if (trace != null) traceBroadcasts++;
+        if (!timing) {
+            sink.broadcast(message, trace);
+            return;
+        }
+        long start = System.nanoTime();
+        sink.broadcast(message, trace);
+        fanoutNanos += System.nanoTime() - start;
+    }
+
+    private void broadcastPlayerState(Player p) {
+        // هر تغییر پول یا دارایی از این مسیر عبور می‌کند؛ رده‌بندی همین‌جا به‌روز می‌شود
+        if (p.isBankrupt()) NetWorthLeaderboard.getInstance().remove(leaderboard, p.getId());
+        else NetWorthLeaderboard.getInstance().update(leaderboard, p, p.getNetWorth());
+
+        broadcast("STATS:" + p.getId() + ":" + p.getName() + ":" + p.getMoney() + ":" + p.getPosition() + ":" + p.getNetWorth());
+    }
+
+    private Node findNodeById(int tileId) {
+        return board.getNode(tileId);
+    }
+}
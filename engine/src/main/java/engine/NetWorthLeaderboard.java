@@ -0,0 +1,171 @@
+package engine;
+
+import ds.heap.HeapHandle;
+import ds.heap.MyMinMaxHeap;
+import ds.map.MyHashMap;
+import model.Player;
+
+import java.util.Arrays;
+
+/**
+ * جدول رده‌بندی دارایی خالص بازیکنان
+ * برای هر اتاق یک هیپ min-max و یک هیپ سراسری برای همه اتاق‌ها نگه‌داری می‌شود؛
+ * با هر تغییر پول یا دارایی فقط کلید همان بازیکن در O(log n) به‌روز می‌شود
+ * و ثروتمندترین/فقیرترین بازیکن در O(1) خوانده می‌شود.
+ *
+ * هر اتاق یک Room دارد که موتور نگه می‌دارد: هیپ اتاق و دستگیره‌های بازیکنانش (آرایه‌ای با اندیس شناسه بازیکن)
+ * زیر قفل همان Room هستند، پس STATS اتاق‌های مختلف منتظر هم نمی‌مانند. فقط هیپ سراسری یک قفل مشترک دارد
+ * (همیشه بعد از قفل Room گرفته می‌شود)، و نقشه roomId -> Room فقط برای باز و بسته شدن و خواندن با roomId است.
+ */
+public class NetWorthLeaderboard {
+    private static final int INITIAL_CAPACITY = 64; // هیپ‌ها خودشان بزرگ می‌شوند؛ این فقط اندازه شروع است
+
+    private static NetWorthLeaderboard instance;
+
+    private final MyMinMaxHeap global;      // زیر قفل خودش
+    private final MyHashMap rooms;          // roomId -> Room، زیر قفل خودش
+
+    /**
+     * رده‌بندی یک اتاق؛ همه فیلدها زیر قفل همین شیء، به جز globalHandles که زیر قفل هیپ سراسری است
+     */
+    public static final class Room {
+        private final int roomId;
+        private final MyMinMaxHeap heap;
+        private HeapHandle[] handles;        // [playerId]
+        private HeapHandle[] globalHandles;  // [playerId]
+        private boolean closed;
+
+        private Room(int roomId, int maxPlayers) {
+            this.roomId = roomId;
+            this.heap = new MyMinMaxHeap(maxPlayers);
+            this.handles = new HeapHandle[maxPlayers + 1];
+            this.globalHandles = new HeapHandle[maxPlayers + 1];
+        }
+
+        public int getRoomId() { return roomId; }
+
+        private void ensureSlot(int playerId) {
+            if (playerId < handles.length) return;
+            int size = Math.max(playerId + 1, handles.length * 2);
+            handles = Arrays.copyOf(handles, size);
+            globalHandles = Arrays.copyOf(globalHandles, size);
+        }
+    }
+
+    public NetWorthLeaderboard() {
+        this.global = new MyMinMaxHeap(INITIAL_CAPACITY);
+        this.rooms = new MyHashMap(16);
+    }
+
+    public static synchronized NetWorthLeaderboard getInstance() {
+        if (instance == null) instance = new NetWorthLeaderboard();
+        return instance;
+    }
+
+    /**
+     * رده‌بندی اتاق به اندازه حداکثر بازیکن ruleset همان اتاق (تا ۲۵۴ بازیکن)؛ اتاق باز همان Room قبلی را برمی‌گرداند
+     */
+    public Room openRoom(int roomId, int maxPlayers) {
+        synchronized (rooms) {
+            Room room = (Room) rooms.get(roomId);
+            if (room == null) {
+                room = new Room(roomId, maxPlayers);
+                rooms.put(roomId, room);
+            }
+            return room;
+        }
+    }
+
+    /**
+     * اتاق بسته‌شده: بازیکن‌های باقی‌مانده (از جمله برنده) از هر دو هیپ حذف می‌شوند و به‌روزرسانی‌های بعدی اثری ندارند
+     */
+    public void closeRoom(Room room) {
+        synchronized (rooms) {
+            if (rooms.get(room.roomId) == room) rooms.remove(room.roomId);
+        }
+        synchronized (room) {
+            if (room.closed) return;
+            room.closed = true;
+            while (!room.heap.isEmpty()) room.heap.extractMin();
+            Arrays.fill(room.handles, null);
+            synchronized (global) {
+                for (int id = 0; id < room.globalHandles.length; id++) {
+                    HeapHandle handle = room.globalHandles[id];
+                    if (handle != null && handle.isInHeap()) global.remove(handle);
+                    room.globalHandles[id] = null;
+                }
+            }
+        }
+    }
+
+    public void update(Room room, Player player, int netWorth) {
+        int id = player.getId();
+        synchronized (room) {
+            if (room.closed) return;
+            room.ensureSlot(id);
+            HeapHandle handle = room.handles[id];
+            if (handle != null && handle.isInHeap()) room.heap.updateKey(handle, netWorth);
+            else room.handles[id] = room.heap.insert(netWorth, player);
+
+            synchronized (global) {
+                HeapHandle globalHandle = room.globalHandles[id];
+                if (globalHandle != null && globalHandle.isInHeap()) global.updateKey(globalHandle, netWorth);
+                else room.globalHandles[id] = global.insert(netWorth, player);
+            }
+        }
+    }
+
+    // بازیکن ورشکسته یا خارج‌شده از رده‌بندی حذف می‌شود؛ دستگیره‌هایش هم پاک می‌شوند
+    public void remove(Room room, int playerId) {
+        synchronized (room) {
+            if (playerId >= room.handles.length) return;
+            HeapHandle handle = room.handles[playerId];
+            room.handles[playerId] = null;
+            if (handle != null && handle.isInHeap()) room.heap.remove(handle);
+
+            synchronized (global) {
+                HeapHandle globalHandle = room.globalHandles[playerId];
+                room.globalHandles[playerId] = null;
+                if (globalHandle != null && globalHandle.isInHeap()) global.remove(globalHandle);
+            }
+        }
+    }
+
+    public Player richest(int roomId) {
+        Room room = room(roomId);
+        if (room == null) return null;
+        synchronized (room) {
+            return playerOf(room.heap.peekMax());
+        }
+    }
+
+    public Player poorest(int roomId) {
+        Room room = room(roomId);
+        if (room == null) return null;
+        synchronized (room) {
+            return playerOf(room.heap.peekMin());
+        }
+    }
+
+    public Player richestOverall() {
+        synchronized (global) {
+            return playerOf(global.peekMax());
+        }
+    }
+
+    public Player poorestOverall() {
+        synchronized (global) {
+            return playerOf(global.peekMin());
+        }
+    }
+
+    private Room room(int roomId) {
+        synchronized (rooms) {
+            return (Room) rooms.get(roomId);
+        }
+    }
+
+    private Player playerOf(HeapHandle handle) {
+        return handle == null ? null : (Player) handle.value;
+    }
+}
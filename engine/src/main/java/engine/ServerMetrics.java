@@ -0,0 +1,135 @@
+package engine;
+
+import utils.LatencyHistogram;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * شمارنده‌ها و هیستوگرام‌های تأخیر سرور به ازای هر نوع دستور
+ * تعداد و خطای هر دستور دقیق شمرده می‌شود. زمان‌ها (انتظار برای قفل موتور اتاق، اجرای دستور و
+ * مجموع پخش پیام‌های همگانی آن) فقط برای یک دستور از هر sampleRate دستور اندازه‌گیری می‌شوند،
+ * چون هر System.nanoTime حدود ۲۰ تا ۴۰ نانوثانیه است و یک دستور چند پیام همگانی دارد؛
+ * صدک‌ها و میانگین از نمونه‌ها درست می‌مانند و سربار میانگین هر دستور چند نانوثانیه است.
+ * همه چیز بدون قفل است (LatencyHistogram و LongAdder) و تردهای اتاق‌های مختلف منتظر هم نمی‌مانند.
+ *
+ * monopoly.metrics.sampleRate = توانی از ۲ (پیش‌فرض 32، مقدار 1 یعنی زمان‌سنجی همه دستورها)
+ * سرور آن‌ها را با MetricsHttpServer (متن Prometheus) و JMX زیر دامنه "monopoly" منتشر می‌کند.
+ */
+public class ServerMetrics {
+    public static final String[] OPCODES = {"ROLL", "BUY", "BUILD", "MORTGAGE", "UNMORTGAGE", "TRADE", "END", "OTHER"};
+    public static final int OTHER = OPCODES.length - 1;
+
+    private static ServerMetrics instance;
+
+    private final int sampleMask;
+
+    private final CommandStats[] commands = new CommandStats[OPCODES.length];
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder messagesDropped = new LongAdder();
+
+    public ServerMetrics() {
+        this(Integer.getInteger("monopoly.metrics.sampleRate", 32));
+    }
+
+    public ServerMetrics(int sampleRate) {
+        this.sampleMask = Integer.highestOneBit(Math.max(1, sampleRate)) - 1;
+        for (int op = 0; op < OPCODES.length; op++) commands[op] = new CommandStats(OPCODES[op]);
+    }
+
+    public static synchronized ServerMetrics getInstance() {
+        if (instance == null) instance = new ServerMetrics();
+        return instance;
+    }
+
+    /**
+     * نوع دستور؛ همان پیشوندهایی که GameEngine.executeCommand بررسی می‌کند
+     */
+    public static int opcodeOf(String command) {
+        if (command.isEmpty()) return OTHER;
+        int op;
+        switch (command.charAt(0)) {
+            case 'R': op = 0; break;
+            case 'B': op = command.startsWith("BUY") ? 1 : 2; break;
+            case 'M': op = 3; break;
+            case 'U': op = 4; break;
+            case 'T': op = 5; break;
+            case 'E': op = 6; break;
+            default: return OTHER;
+        }
+        return command.startsWith(OPCODES[op]) ? op : OTHER;
+    }
+
+    /**
+     * آیا دستور بعدی زمان‌سنجی شود؛ قبل از گرفتن قفل و بدون حالت مشترک بین تردها
+     */
+    public boolean sample() {
+        return sampleMask == 0 || (ThreadLocalRandom.current().nextInt() & sampleMask) == 0;
+    }
+
+    public void recordCommand(int op, boolean error) {
+        CommandStats stats = commands[op];
+        stats.count.increment();
+        if (error) stats.errors.increment();
+    }
+
+    /**
+     * زمان‌های یک دستور نمونه؛ بر حسب نانوثانیه
+     */
+    public void recordTiming(int op, long lockWait, long exec, long fanout) {
+        CommandStats stats = commands[op];
+        stats.lockWait.record(lockWait);
+        stats.exec.record(exec);
+        if (fanout > 0) stats.fanout.record(fanout);
+    }
+
+    public void connectionOpened() { connections.increment(); }
+    public void connectionClosed() { connections.decrement(); }
+    public void messagesSent(int count) { messagesSent.add(count); }
+    public void messageDropped() { messagesDropped.increment(); }
+
+    public CommandStats getCommandStats(int op) { return commands[op]; }
+    public long getConnections() { return connections.sum(); }
+    public long getMessagesSent() { return messagesSent.sum(); }
+    public long getMessagesDropped() { return messagesDropped.sum(); }
+
+    /**
+     * آمار یک نوع دستور؛ هم برای JMX و هم برای خروجی Prometheus
+     */
+    public static final class CommandStats implements CommandStatsMXBean {
+        final String opcode;
+        final LatencyHistogram lockWait = new LatencyHistogram();
+        final LatencyHistogram exec = new LatencyHistogram();
+        final LatencyHistogram fanout = new LatencyHistogram();
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+
+        CommandStats(String opcode) {
+            this.opcode = opcode;
+        }
+
+        public String getOpcode() { return opcode; }
+        public LatencyHistogram getLockWait() { return lockWait; }
+        public LatencyHistogram getExec() { return exec; }
+        public LatencyHistogram getFanout() { return fanout; }
+
+        @Override public long getCount() { return count.sum(); }
+        @Override public long getErrors() { return errors.sum(); }
+        @Override public double getExecMeanMicros() { return exec.getMean() / 1000.0; }
+        @Override public double getExecP50Micros() { return exec.getValueAtPercentile(50) / 1000.0; }
+        @Override public double getExecP99Micros() { return exec.getValueAtPercentile(99) / 1000.0; }
+        @Override public double getExecMaxMicros() { return exec.getMax() / 1000.0; }
+        @Override public double getLockWaitP99Micros() { return lockWait.getValueAtPercentile(99) / 1000.0; }
+        @Override public double getFanoutP99Micros() { return fanout.getValueAtPercentile(99) / 1000.0; }
+
+        @Override
+        public void reset() {
+            lockWait.reset();
+            exec.reset();
+            fanout.reset();
+            count.reset();
+            errors.reset();
+        }
+    }
+}
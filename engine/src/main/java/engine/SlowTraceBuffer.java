@@ -0,0 +1,85 @@
+package engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * بافر حلقوی محدود از آخرین traceهای کند
+ * هر CommandTrace که یکی از مراحلش (نوشتن پاسخ یا تحویل یک پیام همگانی) دیرتر از آستانه باشد یک بار
+ * اضافه می‌شود؛ با پر شدن بافر قدیمی‌ترین‌ها بازنویسی می‌شوند، پس حافظه ثابت است.
+ * سرور آن را روی /traces در MetricsHttpServer و با عملیات dump در JMX (monopoly:type=SlowTraces) منتشر می‌کند.
+ *
+ * monopoly.trace.slowMillis = آستانه (پیش‌فرض 250، مقدار 0 یا منفی یعنی بدون trace)
+ * monopoly.trace.capacity   = تعداد traceهای نگه‌داری‌شده (پیش‌فرض 256)
+ */
+public class SlowTraceBuffer implements SlowTraceBufferMXBean {
+    private static SlowTraceBuffer instance;
+
+    private final AtomicReferenceArray<CommandTrace> traces;
+    private final AtomicLong added = new AtomicLong();
+    private volatile long thresholdNanos;
+
+    public SlowTraceBuffer(long thresholdMillis, int capacity) {
+        this.traces = new AtomicReferenceArray<>(Math.max(1, capacity));
+        setThresholdMillis(thresholdMillis);
+    }
+
+    public static synchronized SlowTraceBuffer getInstance() {
+        if (instance == null) {
+            instance = new SlowTraceBuffer(Long.getLong("monopoly.trace.slowMillis", 250),
+                    Integer.getInteger("monopoly.trace.capacity", 256));
+        }
+        return instance;
+    }
+
+    // بدون آستانه هیچ traceی ساخته نمی‌شود و مسیر دستورها هیچ هزینه‌ای ندارد
+    public boolean isEnabled() {
+        return thresholdNanos > 0;
+    }
+
+    long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    void add(CommandTrace trace) {
+        long index = added.getAndIncrement();
+        traces.set((int) (index % traces.length()), trace);
+    }
+
+    @Override
+    public long getThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    @Override
+    public void setThresholdMillis(long millis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+    }
+
+    @Override
+    public long getCaptured() {
+        return added.get();
+    }
+
+    /**
+     * traceهای موجود از قدیمی به جدید، هر کدام در یک خط
+     */
+    @Override
+    public String dump() {
+        long end = added.get();
+        long start = Math.max(0, end - traces.length());
+        StringBuilder sb = new StringBuilder();
+        sb.append("# slow traces (threshold ").append(getThresholdMillis()).append("ms, captured ").append(end).append(")\n");
+        for (long i = start; i < end; i++) {
+            CommandTrace trace = traces.get((int) (i % traces.length()));
+            if (trace != null) sb.append(trace.describe()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < traces.length(); i++) traces.set(i, null);
+    }
+}
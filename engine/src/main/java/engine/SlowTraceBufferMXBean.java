@@ -0,0 +1,13 @@
+package engine;
+
+/**
+ * traceهای کند در JMX (monopoly:type=SlowTraces)
+ */
+public interface SlowTraceBufferMXBean {
+    long getThresholdMillis();
+    void setThresholdMillis(long millis);
+    long getCaptured();
+
+    String dump();
+    void clear();
+}
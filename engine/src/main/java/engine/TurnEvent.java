@@ -0,0 +1,24 @@
+package engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * رویداد JFR برای رفتن نوبت به بازیکن بعدی
+ */
+@Name("monopoly.Turn")
+@Label("Turn")
+@Category({"Monopoly", "Server"})
+@Description("TurnManager moved the turn to the next player")
+@StackTrace(false)
+class TurnEvent extends Event {
+    @Label("From Player")
+    int from;
+
+    @Label("To Player")
+    int to;
+}
@@ -1,4 +1,4 @@
-package server;
+package engine;
 
 public class TurnManager {
     private int currentPlayerIndex;
@@ -29,7 +29,15 @@ public class TurnManager {
     }
 
     public void nextTurn() {
+        int previous = currentPlayerIndex;
         currentPlayerIndex = (currentPlayerIndex + 1) % totalPlayers;
         hasRolled = false; // ریست کردن برای نفر بعدی
+
+        TurnEvent event = new TurnEvent();
+        if (event.shouldCommit()) {
+            event.from = previous + 1;
+            event.to = currentPlayerIndex + 1;
+            event.commit();
+        }
     }
 }
\ No newline at end of file
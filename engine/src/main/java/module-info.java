@@ -0,0 +1,10 @@
+/**
+ * موتور بازی بدون شبکه: اجرای دستورها، نوبت‌ها، متریک‌ها، trace و آرشیو بازی‌ها
+ */
+module monopoly.engine {
+    requires transitive monopoly.model;
+    requires jdk.jfr;
+
+    exports engine;
+    exports archive;
+}
@@ -0,0 +1,139 @@
+package model;
+
+import ds.list.LinkedList;
+import ds.list.Node;
+
+import java.util.Arrays;
+
+/**
+ * تعریف تغییرناپذیر صفحه بازی (نام‌ها، نوع خانه‌ها، قیمت، جدول اجاره، مالیات و گروه‌های رنگی)
+ * Ruleset آن را یک بار می‌سازد و همه بازی‌های آن ruleset به اشتراک می‌گذارند؛ هر بازی فقط یک
+ * BoardState کوچک برای مالکیت و ساختمان‌ها دارد، پس ساختن یک اتاق جدید یعنی یک آرایه int چندصد بایتی.
+ */
+public final class BoardDefinition {
+    private final Tile[] tiles;
+    private final Property[] properties;   // properties[i] = ملک خانه i یا null
+    private final int[] taxes;             // مبلغ مالیات هر خانه (۰ برای غیر مالیات)
+    private final int[] groupOf;           // اندیس گروه هر خانه یا -1
+    private final int[][] groupTiles;      // شناسه خانه‌های هر گروه
+    private final boolean[] developable;   // گروهی که فقط ملک معمولی دارد (ساخت و اجاره انحصاری)
+    private final boolean[] buildable;     // گروهی که ساخت روی آن مجاز است
+    private final int[][] rentTable;       // [خانه][تعداد خانه‌ها .. maxHouses، هتل]
+    private final int[] monopolyRent;      // اجاره زمین خالی وقتی مالک همه گروه را دارد
+    private final int jailTile;
+    private final Node[] nodes;            // گره لیست حلقوی هر خانه برای move
+    private final LinkedList board;
+
+    BoardDefinition(Tile[] tiles, int[] taxes, int jailTile, int maxHouses,
+                    double houseMultiplier, int hotelMultiplier, int monopolyMultiplier, boolean buildOnFixedRent) {
+        int count = tiles.length;
+        this.tiles = tiles;
+        this.taxes = taxes;
+        this.jailTile = jailTile;
+        this.properties = new Property[count];
+        this.groupOf = new int[count];
+        this.rentTable = new int[count][];
+        this.monopolyRent = new int[count];
+        this.board = new LinkedList();
+        this.nodes = new Node[count];
+
+        // گروه‌ها به ترتیب اولین ظهور روی صفحه شماره‌گذاری می‌شوند
+        String[] groupNames = new String[count];
+        int groupCount = 0;
+        for (int i = 0; i < count; i++) {
+            groupOf[i] = -1;
+            board.add(tiles[i]);
+            if (!(tiles[i] instanceof Property)) continue;
+
+            properties[i] = (Property) tiles[i];
+            String color = properties[i].getColorGroup();
+            int g = 0;
+            while (g < groupCount && !groupNames[g].equals(color)) g++;
+            if (g == groupCount) groupNames[groupCount++] = color;
+            groupOf[i] = g;
+        }
+
+        int[] groupSizes = new int[groupCount];
+        developable = new boolean[groupCount];
+        Arrays.fill(developable, true);
+        for (int i = 0; i < count; i++) {
+            if (groupOf[i] == -1) continue;
+            groupSizes[groupOf[i]]++;
+            if (tiles[i].getType() != TileType.PROPERTY) developable[groupOf[i]] = false;
+        }
+        buildable = new boolean[groupCount];
+        for (int g = 0; g < groupCount; g++) buildable[g] = developable[g] || buildOnFixedRent;
+        groupTiles = new int[groupCount][];
+        for (int g = 0; g < groupCount; g++) groupTiles[g] = new int[groupSizes[g]];
+        int[] filled = new int[groupCount];
+        for (int i = 0; i < count; i++) {
+            if (groupOf[i] != -1) groupTiles[groupOf[i]][filled[groupOf[i]]++] = i;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (properties[i] == null) continue;
+            int base = properties[i].getBaseRent();
+            int[] rents = new int[maxHouses + 2];
+            boolean buildable = developable[groupOf[i]];
+            rents[0] = base;
+            for (int h = 1; h <= maxHouses; h++) rents[h] = buildable ? (int) (base * Math.pow(houseMultiplier, h)) : base;
+            rents[maxHouses + 1] = buildable ? base * hotelMultiplier : base;
+            rentTable[i] = rents;
+            monopolyRent[i] = buildable ? base * monopolyMultiplier : base;
+        }
+
+        Node current = board.getHead();
+        for (int i = 0; i < count; i++) {
+            nodes[i] = current;
+            current = current.next;
+        }
+    }
+
+    public static BoardDefinition standard() {
+        return Ruleset.standard().getBoard();
+    }
+
+    /**
+     * وضعیت خالی یک بازی جدید روی این صفحه
+     */
+    public BoardState newState(int playerCapacity) {
+        return new BoardState(tiles.length, playerCapacity);
+    }
+
+    public int getTileCount() { return tiles.length; }
+    public Tile getTile(int id) { return tiles[id]; }
+    public Property getProperty(int id) { return properties[id]; }
+    public Node getNode(int id) { return nodes[id]; }
+    public int getTax(int id) { return taxes[id]; }
+    public int getJailTile() { return jailTile; }
+
+    // لیست حلقوی خانه‌ها؛ مشترک است و نباید تغییر کند
+    public LinkedList getBoard() { return board; }
+
+    public int getGroup(int tile) { return groupOf[tile]; }
+
+    // شناسه خانه‌های یک گروه رنگی (آرایه مشترک است، تغییر ندهید)
+    public int[] getGroupTiles(int group) { return groupTiles[group]; }
+
+    // ملک معمولی: اجاره با خانه، هتل و انحصار بالا می‌رود؛ راه‌آهن و شرکت‌ها اجاره ثابت دارند
+    public boolean isDevelopable(int tile) {
+        return groupOf[tile] != -1 && developable[groupOf[tile]];
+    }
+
+    // ساخت مجاز است؛ با build.railroadsAndUtilities روی گروه‌های اجاره ثابت هم (بدون اثر روی اجاره)
+    public boolean canBuild(int tile) {
+        return groupOf[tile] != -1 && buildable[groupOf[tile]];
+    }
+
+    /**
+     * اجاره از جدول از پیش محاسبه‌شده؛ monopoly فقط برای زمین بدون ساختمان معنا دارد
+     */
+    public int getRent(int tile, int houses, boolean hotel, boolean monopoly) {
+        int[] rents = rentTable[tile];
+        if (hotel) return rents[rents.length - 1];
+        if (houses > 0) return rents[houses];
+        return monopoly ? monopolyRent[tile] : rents[0];
+    }
+
+    Property[] properties() { return properties; }
+}
@@ -0,0 +1,184 @@
+package model;
+
+import java.io.Serializable;
+
+/**
+ * وضعیت تغییرپذیر یک بازی به صورت Struct-of-Arrays در یک آرایه int
+ * [۰ .. tileCount)         : یک کلمه برای هر خانه
+ *     بیت ۰-۷  مالک + ۱ (۰ یعنی بی‌مالک)
+ *     بیت ۸-۱۱ تعداد خانه‌ها
+ *     بیت ۱۲   هتل
+ *     بیت ۱۳   رهن
+ * [tileCount .. )          : چهار کلمه برای هر بازیکن (شناسه ۱ در اسلات ۰)
+ *     پول، موقعیت، پرچم‌ها (بیت ۰ زندان، بیت ۱ ورشکسته، بیت ۸-۱۵ نوبت‌های زندان،
+ *     بیت ۱۶-۱۹ کارت‌های آزادی از زندان)، ارزش دارایی
+ * کپی کردن یک بازی فقط یک کپی آرایه است و شبیه‌سازی یک نوبت چند cache line را لمس می‌کند.
+ */
+public class BoardState implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int OWNER_MASK = 0xFF;
+    private static final int HOUSES_SHIFT = 8;
+    private static final int HOUSES_MASK = 0xF << HOUSES_SHIFT;
+    private static final int HOTEL_BIT = 1 << 12;
+    private static final int MORTGAGED_BIT = 1 << 13;
+
+    private static final int PLAYER_STRIDE = 4;
+    private static final int MONEY = 0;
+    private static final int POSITION = 1;
+    private static final int FLAGS = 2;
+    private static final int ASSETS = 3;
+
+    private static final int IN_JAIL_BIT = 1;
+    private static final int BANKRUPT_BIT = 1 << 1;
+    private static final int JAIL_TURNS_SHIFT = 8;
+    private static final int JAIL_TURNS_MASK = 0xFF << JAIL_TURNS_SHIFT;
+    private static final int JAIL_CARDS_SHIFT = 16;
+    private static final int JAIL_CARDS_MASK = 0xF << JAIL_CARDS_SHIFT;
+
+    /** بیشترین تعداد کارت آزادی از زندان که شمارنده یک بازیکن جا می‌دهد */
+    public static final int MAX_JAIL_FREE_CARDS = JAIL_CARDS_MASK >>> JAIL_CARDS_SHIFT;
+
+    private final int tileCount;
+    private final int playerCapacity;
+    private final int[] data;
+
+    // هوک‌های بازی زنده؛ کپی‌ها (برای شبیه‌سازی) هیچ‌کدام را ندارند
+    private transient UndoLog undoLog;
+    private transient UnownedPropertyIndex unownedIndex;
+    private transient Property[] properties;
+
+    public BoardState(int tileCount, int playerCapacity) {
+        this.tileCount = tileCount;
+        this.playerCapacity = playerCapacity;
+        this.data = new int[tileCount + playerCapacity * PLAYER_STRIDE];
+    }
+
+    private BoardState(BoardState source) {
+        this.tileCount = source.tileCount;
+        this.playerCapacity = source.playerCapacity;
+        this.data = source.data.clone();
+    }
+
+    public BoardState copy() {
+        return new BoardState(this);
+    }
+
+    /**
+     * کپی خام داده‌ها؛ ساختارهای مشتق (درخت دارایی و ایندکس‌ها) را GameState.restore بازسازی می‌کند
+     */
+    public void copyFrom(BoardState source) {
+        System.arraycopy(source.data, 0, data, 0, data.length);
+    }
+
+    void attach(UndoLog undoLog, UnownedPropertyIndex unownedIndex, Property[] properties) {
+        this.undoLog = undoLog;
+        this.unownedIndex = unownedIndex;
+        this.properties = properties;
+    }
+
+    public int getTileCount() { return tileCount; }
+    public int getPlayerCapacity() { return playerCapacity; }
+
+    // --- خانه‌ها ---
+
+    public int getOwner(int tile) { return (data[tile] & OWNER_MASK) - 1; }
+    public int getHouses(int tile) { return (data[tile] & HOUSES_MASK) >>> HOUSES_SHIFT; }
+    public boolean hasHotel(int tile) { return (data[tile] & HOTEL_BIT) != 0; }
+    public boolean isMortgaged(int tile) { return (data[tile] & MORTGAGED_BIT) != 0; }
+
+    public void setOwner(int tile, int ownerId) {
+        int old = data[tile];
+        write(tile, (old & ~OWNER_MASK) | ((ownerId + 1) & OWNER_MASK));
+        ownerChanged(tile, old);
+    }
+
+    public void addHouse(int tile) {
+        write(tile, data[tile] + (1 << HOUSES_SHIFT));
+    }
+
+    public void setHotel(int tile, boolean hotel) {
+        write(tile, hotel ? data[tile] | HOTEL_BIT : data[tile] & ~HOTEL_BIT);
+    }
+
+    public void setMortgaged(int tile, boolean mortgaged) {
+        write(tile, mortgaged ? data[tile] | MORTGAGED_BIT : data[tile] & ~MORTGAGED_BIT);
+    }
+
+    // برگرداندن خانه به حالت اولیه (بی‌مالک، بدون ساختمان و رهن)
+    public void resetTile(int tile) {
+        int old = data[tile];
+        write(tile, 0);
+        ownerChanged(tile, old);
+    }
+
+    private void ownerChanged(int tile, int oldWord) {
+        if (unownedIndex == null) return;
+        boolean wasOwned = (oldWord & OWNER_MASK) != 0;
+        boolean isOwned = (data[tile] & OWNER_MASK) != 0;
+        if (wasOwned && !isOwned) unownedIndex.add(properties[tile]);
+        else if (!wasOwned && isOwned) unownedIndex.remove(properties[tile]);
+    }
+
+    // --- بازیکنان (اسلات = شناسه - ۱) ---
+
+    private int base(int slot) { return tileCount + slot * PLAYER_STRIDE; }
+
+    public int getMoney(int slot) { return data[base(slot) + MONEY]; }
+    public int getPosition(int slot) { return data[base(slot) + POSITION]; }
+    public int getAssetValue(int slot) { return data[base(slot) + ASSETS]; }
+    public boolean isInJail(int slot) { return (data[base(slot) + FLAGS] & IN_JAIL_BIT) != 0; }
+    public boolean isBankrupt(int slot) { return (data[base(slot) + FLAGS] & BANKRUPT_BIT) != 0; }
+    public int getTurnsInJail(int slot) { return (data[base(slot) + FLAGS] & JAIL_TURNS_MASK) >>> JAIL_TURNS_SHIFT; }
+    public int getJailFreeCards(int slot) { return (data[base(slot) + FLAGS] & JAIL_CARDS_MASK) >>> JAIL_CARDS_SHIFT; }
+
+    public void setMoney(int slot, int money) { write(base(slot) + MONEY, money); }
+    public void setPosition(int slot, int position) { write(base(slot) + POSITION, position); }
+    public void setAssetValue(int slot, int value) { write(base(slot) + ASSETS, value); }
+
+    public void setInJail(int slot, boolean inJail) {
+        int flags = data[base(slot) + FLAGS];
+        // آزاد شدن از زندان شمارنده نوبت‌ها را صفر می‌کند
+        flags = inJail ? flags | IN_JAIL_BIT : flags & ~(IN_JAIL_BIT | JAIL_TURNS_MASK);
+        write(base(slot) + FLAGS, flags);
+    }
+
+    public void incrementJailTurn(int slot) {
+        write(base(slot) + FLAGS, data[base(slot) + FLAGS] + (1 << JAIL_TURNS_SHIFT));
+    }
+
+    public void setJailFreeCards(int slot, int cards) {
+        if (cards < 0 || cards > MAX_JAIL_FREE_CARDS) {
+            throw new IllegalArgumentException("Jail free cards out of range: " + cards);
+        }
+        int flags = data[base(slot) + FLAGS] & ~JAIL_CARDS_MASK;
+        write(base(slot) + FLAGS, flags | ((cards << JAIL_CARDS_SHIFT) & JAIL_CARDS_MASK));
+    }
+
+    public void setBankrupt(int slot, boolean bankrupt) {
+        int flags = data[base(slot) + FLAGS];
+        write(base(slot) + FLAGS, bankrupt ? flags | BANKRUPT_BIT : flags & ~BANKRUPT_BIT);
+    }
+
+    // --- نوشتن با ثبت در لاگ undo ---
+
+    private void write(int index, int value) {
+        if (undoLog != null) undoLog.record(index, data[index]);
+        data[index] = value;
+    }
+
+    int read(int index) { return data[index]; }
+
+    // بازگرداندن یک کلمه بدون ثبت دوباره (rollback)؛ ایندکس املاک بی‌مالک هم‌گام می‌شود
+    void restore(int index, int value) {
+        int old = data[index];
+        data[index] = value;
+        if (index < tileCount) ownerChanged(index, old);
+    }
+
+    static int ownerOf(int tileWord) {
+        return (tileWord & OWNER_MASK) - 1;
+    }
+
+    boolean isTileIndex(int index) { return index < tileCount; }
+}
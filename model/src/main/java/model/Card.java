@@ -0,0 +1,30 @@
+package model;
+
+/**
+ * کارت شانس/صندوق کامپایل‌شده؛ اثر و مقدار هنگام بارگذاری مشخص می‌شوند، نه هنگام کشیدن
+ * value: مبلغ برای MONEY، شناسه خانه برای MOVE_TO، تعداد خانه برای MOVE_RELATIVE
+ */
+public class Card {
+    public enum CardType { CHANCE, COMMUNITY_CHEST }
+    public enum EffectType { MONEY, MOVE_TO, MOVE_RELATIVE, JAIL, GET_OUT_OF_JAIL }
+
+    private final String description;
+    private final CardType type;
+    private final EffectType effect;
+    private final int value;
+    private final String logText; // " drew Chance: ..." یک بار ساخته می‌شود
+
+    public Card(String description, CardType type, EffectType effect, int value) {
+        this.description = description;
+        this.type = type;
+        this.effect = effect;
+        this.value = value;
+        this.logText = " drew " + (type == CardType.CHANCE ? "Chance" : "Community Chest") + ": " + description;
+    }
+
+    public String getDescription() { return description; }
+    public CardType getType() { return type; }
+    public EffectType getEffect() { return effect; }
+    public int getValue() { return value; }
+    public String getLogText() { return logText; }
+}
@@ -0,0 +1,131 @@
+package model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * دسته کارت حلقوی روی آرایه؛ کشیدن کارت فقط جلو بردن یک اندیس است و چیزی ساخته نمی‌شود
+ * کارت‌ها هنگام بارگذاری ruleset یک بار از فایل کارت همان ruleset کامپایل و با صفحه‌اش اعتبارسنجی
+ * می‌شوند و بین همه بازی‌های آن ruleset به اشتراک گذاشته می‌شوند؛ هر بازی فقط ترتیب بُر خورده خودش را دارد.
+ * کارت آزادی از زندان تا وقتی دست بازیکن است از دسته بیرون است و با استفاده شدن برمی‌گردد.
+ */
+public class CardDeck {
+    private final Card[] cards;
+    private final boolean[] held; // held[i] یعنی کارت i دست یک بازیکن است و کشیده نمی‌شود
+    private int next;
+
+    private CardDeck(Card[] source) {
+        this.cards = source.clone();
+        this.held = new boolean[cards.length];
+        this.next = 0;
+        shuffle();
+    }
+
+    public static CardDeck chance(Ruleset rules) {
+        return new CardDeck(rules.getChanceCards());
+    }
+
+    public static CardDeck communityChest(Ruleset rules) {
+        return new CardDeck(rules.getCommunityCards());
+    }
+
+    // بر زدن با الگوریتم Fisher-Yates
+    private void shuffle() {
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = (int) (Math.random() * (i + 1));
+            Card temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+    }
+
+    // null اگر دسته خالی باشد یا همه کارت‌هایش دست بازیکن‌ها باشد
+    public Card draw() {
+        for (int tries = 0; tries < cards.length; tries++) {
+            int i = next;
+            next = (next + 1) % cards.length;
+            if (held[i]) continue;
+            if (cards[i].getEffect() == Card.EffectType.GET_OUT_OF_JAIL) held[i] = true;
+            return cards[i];
+        }
+        return null;
+    }
+
+    /**
+     * برگرداندن یک کارت آزادی از زندان به دسته
+     * @return false اگر کارتی از این دسته دست بازیکن نبود
+     */
+    public boolean returnJailFreeCard() {
+        for (int i = 0; i < held.length; i++) {
+            if (held[i]) {
+                held[i] = false;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    // --- کامپایل فایل کارت‌ها (یک بار برای هر ruleset) ---
+
+    /**
+     * کارت‌های فایل resource؛ مقصد MOVE_TO باید خانه‌ای از همین صفحه باشد و تعداد کارت‌های آزادی از زندان
+     * از ظرفیت شمارنده BoardState بیشتر نباشد (یک بازیکن می‌تواند همه‌شان را داشته باشد)
+     * @return [0] = کارت‌های CHANCE، [1] = کارت‌های COMMUNITY_CHEST
+     */
+    static Card[][] compile(String resource, BoardDefinition board) {
+        InputStream in = CardDeck.class.getResourceAsStream(resource);
+        if (in == null) throw new IllegalArgumentException("Card file not found: " + resource);
+
+        List<Card> chance = new ArrayList<>();
+        List<Card> community = new ArrayList<>();
+        int jailFreeCards = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                Card card = parse(resource, line, lineNumber, board.getTileCount());
+                if (card.getEffect() == Card.EffectType.GET_OUT_OF_JAIL && ++jailFreeCards > BoardState.MAX_JAIL_FREE_CARDS) {
+                    throw new IllegalArgumentException(resource + ":" + lineNumber + ": more than "
+                            + BoardState.MAX_JAIL_FREE_CARDS + " Get out of Jail free cards");
+                }
+                (card.getType() == Card.CardType.CHANCE ? chance : community).add(card);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + resource, e);
+        }
+
+        return new Card[][]{chance.toArray(new Card[0]), community.toArray(new Card[0])};
+    }
+
+    // قالب هر خط: DECK|EFFECT|VALUE|DESCRIPTION
+    private static Card parse(String resource, String line, int lineNumber, int tileCount) {
+        String[] parts = line.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException(resource + ":" + lineNumber + ": expected DECK|EFFECT|VALUE|DESCRIPTION");
+        }
+        try {
+            Card.CardType type = Card.CardType.valueOf(parts[0].trim());
+            Card.EffectType effect = Card.EffectType.valueOf(parts[1].trim());
+            int value = Integer.parseInt(parts[2].trim());
+            if (effect == Card.EffectType.MOVE_TO && (value < 0 || value >= tileCount)) {
+                throw new IllegalArgumentException("tile out of range for a " + tileCount + "-tile board: " + value);
+            }
+            return new Card(parts[3].trim(), type, effect, value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(resource + ":" + lineNumber + ": " + e.getMessage(), e);
+        }
+    }
+}
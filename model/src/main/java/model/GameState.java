@@ -0,0 +1,141 @@
+package model;
+
+import ds.list.LinkedList;
+import ds.map.MyHashMap;
+import ds.graph.MyGraph; // ایمپورت کلاس گراف
+
+public class GameState {
+    private static GameState instance;
+    private Ruleset ruleset;            // قوانین این بازی
+    private BoardDefinition definition; // صفحه مشترک و تغییرناپذیر ruleset
+    private MyHashMap players; // playerId -> Player
+    private MyGraph transactionGraph; // گراف برای ثبت تراکنش‌ها
+    private UndoLog undoLog;          // checkpoint/rollback کلمه‌های BoardState
+    private UnownedPropertyIndex unownedProperties; // املاک بی‌مالک مرتب بر اساس قیمت
+    private BoardState boardState;    // مالکیت، ساختمان‌ها، رهن و وضعیت بازیکنان در یک آرایه
+    private boolean isGameStarted;
+
+    private GameState(Ruleset ruleset) {
+        this.ruleset = ruleset;
+        players = new MyHashMap(ruleset.getMaxPlayers());
+        definition = ruleset.getBoard();
+        undoLog = new UndoLog();
+        unownedProperties = new UnownedPropertyIndex();
+        boardState = definition.newState(ruleset.getMaxPlayers());
+
+        // مقداردهی اولیه گراف با ظرفیت تعداد بازیکنان ruleset
+        transactionGraph = new MyGraph(ruleset.getMaxPlayers());
+
+        isGameStarted = false;
+        initOverlay();
+    }
+
+    // بازی پیش‌فرض با ruleset انتخاب‌شده در -Dmonopoly.ruleset=NAME؛ اتاق‌های سرور با newGame و ruleset خودشان ساخته می‌شوند
+    public static synchronized GameState getInstance() {
+        if (instance == null) instance = new GameState(Ruleset.load(System.getProperty("monopoly.ruleset", Ruleset.DEFAULT)));
+        return instance;
+    }
+
+    /**
+     * یک بازی مستقل دیگر (اتاق جدید، شبیه‌سازی یا بنچمارک) با ruleset دلخواه
+     */
+    public static GameState newGame(Ruleset ruleset) {
+        return new GameState(ruleset);
+    }
+
+    // همه املاک در ابتدا بی‌مالک‌اند؛ تعریف صفحه ساخته نمی‌شود، فقط ارجاع داده می‌شود
+    private void initOverlay() {
+        Property[] properties = definition.properties();
+        for (Property property : properties) {
+            if (property != null) unownedProperties.add(property);
+        }
+        boardState.attach(undoLog, unownedProperties, properties);
+    }
+
+    public Ruleset getRuleset() { return ruleset; }
+    public BoardDefinition getDefinition() { return definition; }
+
+    public LinkedList getBoard() { return definition.getBoard(); }
+
+    public void addPlayer(int id, String name) {
+        Player player = new Player(id, name, ruleset.getStartingMoney(), boardState);
+        players.put(id, player);
+
+        // اضافه کردن بازیکن به عنوان یک گره در گراف تراکنش‌ها
+        transactionGraph.addNode(id, name);
+    }
+
+    public Player getPlayer(int id) {
+        return (Player) players.get(id);
+    }
+
+    public Tile getTile(int id) {
+        return definition.getTile(id);
+    }
+
+    public Property getProperty(int id) {
+        return definition.getProperty(id);
+    }
+
+    // برای ربات‌ها و مشاور خرید: «زیر X چه چیزی می‌توانم بخرم؟»
+    public UnownedPropertyIndex getUnownedProperties() { return unownedProperties; }
+
+    // --- checkpoint/rollback فقط برای BoardState (نگاه کنید به UndoLog)؛ دسته کارت، نوبت و رویدادها برنمی‌گردند ---
+
+    public UndoLog getUndoLog() { return undoLog; }
+    public int checkpoint() { return undoLog.checkpoint(); }
+    public void commit(int mark) { undoLog.commit(mark); }
+    public void rollback(int mark) { undoLog.rollback(mark, this); }
+
+    // --- وضعیت فشرده بازی ---
+
+    public BoardState getBoardState() { return boardState; }
+
+    // کپی کامل وضعیت بازی با یک کپی آرایه (برای شبیه‌سازی یا ذخیره)
+    public BoardState snapshot() { return boardState.copy(); }
+
+    /**
+     * برگرداندن وضعیت از یک snapshot و بازسازی درخت دارایی‌ها و ایندکس املاک بی‌مالک
+     */
+    public void restore(BoardState snapshot) {
+        boardState.copyFrom(snapshot);
+        for (int id = 1; id <= ruleset.getMaxPlayers(); id++) {
+            Player player = getPlayer(id);
+            if (player != null) player.getAssetTree().clear();
+        }
+        for (int i = 0; i < definition.getTileCount(); i++) {
+            Property prop = definition.getProperty(i);
+            if (prop == null) continue;
+            unownedProperties.remove(prop);
+            if (boardState.getOwner(i) == -1) unownedProperties.add(prop);
+            else syncAssetTrees(i, -1);
+        }
+    }
+
+    /**
+     * هم‌گام کردن درخت دارایی بازیکنان با کلمه خانه tile بعد از rollback یا restore
+     */
+    void syncAssetTrees(int tile, int previousOwner) {
+        Property prop = definition.getProperty(tile);
+        if (prop == null) return;
+        int owner = boardState.getOwner(tile);
+        if (owner != previousOwner) {
+            Player previous = previousOwner == -1 ? null : getPlayer(previousOwner);
+            if (previous != null) previous.getAssetTree().removeProperty(tile);
+            Player current = owner == -1 ? null : getPlayer(owner);
+            if (current != null) current.getAssetTree().addProperty(prop.getColorGroup(), prop.getName(), tile);
+        }
+        Player current = owner == -1 ? null : getPlayer(owner);
+        if (current != null) {
+            current.getAssetTree().setBuildings(tile, boardState.getHouses(tile), boardState.hasHotel(tile));
+        }
+    }
+
+    // متد جدید برای دسترسی به گراف (مورد نیاز GameEngine)
+    public MyGraph getTransactionGraph() {
+        return transactionGraph;
+    }
+
+    public boolean isGameStarted() { return isGameStarted; }
+    public void startGame() { isGameStarted = true; }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package model;
+
+import java.io.Serializable;
+import ds.tree.AssetTree; // اضافه شدن ایمپورت درخت دارایی
+
+/**
+ * بازیکن؛ فیلدهای تغییرپذیر (پول، موقعیت، زندان، ورشکستگی، ارزش دارایی)
+ * در BoardState بازی نگه‌داری می‌شوند و این کلاس فقط نمای آن‌هاست.
+ */
+public class Player implements Serializable {
+    private int id;
+    private String name;
+    private final int slot;
+    private final BoardState state;
+
+    // اضافه شدن فیلد درخت دارایی برای نمایش سلسله‌مراتب
+    private AssetTree assetTree;
+
+    public Player(int id, String name, int startingMoney, BoardState state) {
+        this.id = id;
+        this.name = name;
+        this.slot = id - 1;
+        this.state = state;
+        state.setMoney(slot, startingMoney);
+
+        // مقداردهی اولیه درخت با نام بازیکن به عنوان ریشه
+        this.assetTree = new AssetTree(name);
+    }
+
+    // متد جدید برای دسترسی به درخت دارایی‌های بازیکن
+    public AssetTree getAssetTree() {
+        return assetTree;
+    }
+
+    // --- سایر گترها و سترها ---
+    public int getId() { return id; }
+    public String getName() { return name; }
+    public int getMoney() { return state.getMoney(slot); }
+    public void setMoney(int money) { state.setMoney(slot, money); }
+    public int getPosition() { return state.getPosition(slot); }
+    public void setPosition(int position) { state.setPosition(slot, position); }
+
+    public boolean isInJail() { return state.isInJail(slot); }
+    public void setInJail(boolean inJail) { state.setInJail(slot, inJail); }
+
+    public int getTurnsInJail() { return state.getTurnsInJail(slot); }
+    public void incrementJailTurn() { state.incrementJailTurn(slot); }
+
+    public int getJailFreeCards() { return state.getJailFreeCards(slot); }
+    public void addJailFreeCard() { state.setJailFreeCards(slot, state.getJailFreeCards(slot) + 1); }
+    public void useJailFreeCard() { state.setJailFreeCards(slot, state.getJailFreeCards(slot) - 1); }
+
+    // ارزش دارایی‌های غیرنقدی (املاک و ساختمان‌ها)؛ دارایی خالص = پول + این مقدار
+    // موتور بازی هنگام خرید، ساخت، رهن و ورشکستگی آن را به‌صورت افزایشی تغییر می‌دهد
+    public int getAssetValue() { return state.getAssetValue(slot); }
+    public void addAssetValue(int delta) { state.setAssetValue(slot, state.getAssetValue(slot) + delta); }
+    public void clearAssets() { state.setAssetValue(slot, 0); }
+    public int getNetWorth() { return state.getMoney(slot) + state.getAssetValue(slot); }
+
+    public boolean isBankrupt() { return state.isBankrupt(slot); }
+    public void setBankrupt(boolean bankrupt) { state.setBankrupt(slot, bankrupt); }
+}
@@ -0,0 +1,40 @@
+package model;
+
+/**
+ * تعریف یک ملک (قیمت، اجاره، گروه رنگی)
+ * مالک، ساختمان‌ها و رهن در BoardState بازی و با شناسه خانه نگه‌داری می‌شوند.
+ */
+public class Property extends Tile {
+    private int price;
+    private int baseRent;
+    private String colorGroup;
+    private int buildCost;
+    private int unmortgageCost;
+
+    public Property(int id, String name, TileType type, int price, int rent, String colorGroup, int mortgageInterestPercent) {
+        super(id, name, type);
+        this.price = price;
+        this.baseRent = rent;
+        this.colorGroup = colorGroup;
+        this.buildCost = price / 2;
+        this.unmortgageCost = getMortgageValue() * (100 + mortgageInterestPercent) / 100;
+    }
+
+    // --- متدهای مربوط به رهن ---
+
+    // مبلغی که بانک به بازیکن می‌دهد (نصف قیمت)
+    public int getMortgageValue() {
+        return price / 2;
+    }
+
+    // مبلغی که بازیکن باید به بانک بدهد (وام + سود رهن ruleset)
+    public int getUnmortgageCost() {
+        return unmortgageCost;
+    }
+
+    // --- سایر گترها ---
+    public int getPrice() { return price; }
+    public int getBaseRent() { return baseRent; }
+    public String getColorGroup() { return colorGroup; }
+    public int getBuildCost() { return buildCost; }
+}
@@ -0,0 +1,215 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * قوانین یک نوع بازی (پول اولیه، جایزه GO، زندان، اجاره، رهن و چیدمان صفحه)
+ * از فایل rulesets/NAME.properties یک بار خوانده، اعتبارسنجی و به جدول‌های تغییرناپذیر تبدیل می‌شود.
+ * فایل می‌تواند با extends=NAME فقط تفاوت‌هایش با یک ruleset دیگر را بنویسد.
+ */
+public final class Ruleset {
+    public static final String DEFAULT = "standard";
+
+    private static final String DIRECTORY = "/rulesets/";
+    private static final Map<String, Ruleset> loaded = new HashMap<>();
+
+    // محدودیت‌های BoardState و UnownedPropertyIndex
+    private static final int MAX_TILES = 64;
+    private static final int MAX_PLAYERS = 254;
+    private static final int MAX_HOUSES = 15;
+
+    private final String name;
+    private final int maxPlayers;
+    private final int startingMoney;
+    private final int goReward;
+    private final int jailFine;
+    private final int maxJailTurns;
+    private final int maxHouses;
+    private final boolean deckByTile;
+    private final BoardDefinition board;
+    private final Card[] chanceCards;
+    private final Card[] communityCards;
+
+    private Ruleset(String id, Properties p) {
+        this.name = p.getProperty("name", id);
+        this.maxPlayers = intValue(id, p, "players.max", 2, MAX_PLAYERS);
+        this.startingMoney = intValue(id, p, "players.startingMoney", 0, Integer.MAX_VALUE);
+        this.goReward = intValue(id, p, "go.reward", 0, Integer.MAX_VALUE);
+        this.jailFine = intValue(id, p, "jail.fine", 0, Integer.MAX_VALUE);
+        this.maxJailTurns = intValue(id, p, "jail.maxTurns", 1, 255);
+        this.maxHouses = intValue(id, p, "houses.max", 0, MAX_HOUSES);
+        this.deckByTile = booleanValue(id, p, "cards.deckByTile");
+        this.board = compileBoard(id, p);
+
+        // کارت‌ها با صفحه همین ruleset اعتبارسنجی می‌شوند؛ مقصد MOVE_TO بیرون از صفحه خطای بارگذاری است
+        String cards = p.getProperty("cards");
+        if (cards == null) throw invalid(id, "missing cards");
+        try {
+            Card[][] decks = CardDeck.compile("/" + cards.trim(), board);
+            this.chanceCards = decks[0];
+            this.communityCards = decks[1];
+        } catch (IllegalArgumentException e) {
+            throw invalid(id, e.getMessage());
+        }
+    }
+
+    /**
+     * ruleset با نام داده‌شده؛ هر فایل فقط یک بار در طول اجرا کامپایل می‌شود
+     */
+    public static synchronized Ruleset load(String id) {
+        Ruleset ruleset = loaded.get(id);
+        if (ruleset == null) {
+            ruleset = new Ruleset(id, readChain(id, 0));
+            loaded.put(id, ruleset);
+        }
+        return ruleset;
+    }
+
+    public static Ruleset standard() {
+        return load(DEFAULT);
+    }
+
+    private static Properties readChain(String id, int depth) {
+        if (depth > 8) throw new IllegalArgumentException("Ruleset '" + id + "': extends chain too deep");
+        InputStream in = Ruleset.class.getResourceAsStream(DIRECTORY + id + ".properties");
+        if (in == null) throw new IllegalArgumentException("Ruleset not found: " + id);
+
+        Properties own = new Properties();
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            own.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read ruleset " + id, e);
+        }
+
+        String parent = own.getProperty("extends");
+        if (parent == null) return own;
+
+        // مقادیر فایل فرزند روی والد نوشته می‌شوند
+        Properties merged = readChain(parent.trim(), depth + 1);
+        merged.putAll(own);
+        return merged;
+    }
+
+    // --- کامپایل صفحه ---
+
+    private BoardDefinition compileBoard(String id, Properties p) {
+        int count = intValue(id, p, "tiles", 1, MAX_TILES);
+        int interest = intValue(id, p, "mortgage.interestPercent", 0, 1000);
+        Tile[] tiles = new Tile[count];
+        int[] taxes = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            String key = "tile." + i;
+            String spec = p.getProperty(key);
+            if (spec == null) throw invalid(id, "missing " + key);
+            String[] f = spec.split("\\|");
+
+            TileType type;
+            try {
+                type = TileType.valueOf(f[0].trim());
+            } catch (IllegalArgumentException e) {
+                throw invalid(id, key + ": unknown tile type " + f[0]);
+            }
+
+            switch (type) {
+                case PROPERTY:
+                case RAILROAD:
+                case UTILITY:
+                    if (f.length != 5) throw invalid(id, key + ": expected TYPE|NAME|PRICE|RENT|GROUP");
+                    int price = parse(id, key, f[2], 1, 1 << 24);
+                    int rent = parse(id, key, f[3], 0, Integer.MAX_VALUE);
+                    tiles[i] = new Property(i, f[1].trim(), type, price, rent, f[4].trim().intern(), interest);
+                    break;
+                case TAX:
+                    if (f.length != 3) throw invalid(id, key + ": expected TAX|NAME|AMOUNT");
+                    taxes[i] = parse(id, key, f[2], 0, Integer.MAX_VALUE);
+                    tiles[i] = new Tile(i, f[1].trim(), type);
+                    break;
+                default:
+                    if (f.length != 2) throw invalid(id, key + ": expected TYPE|NAME");
+                    tiles[i] = new Tile(i, f[1].trim(), type);
+            }
+        }
+
+        if (tiles[0].getType() != TileType.GO) throw invalid(id, "tile.0 must be GO");
+        int jailTile = -1;
+        for (Tile tile : tiles) {
+            if (tile.getType() != TileType.JAIL) continue;
+            if (jailTile != -1) throw invalid(id, "more than one JAIL tile");
+            jailTile = tile.getId();
+        }
+        if (jailTile == -1) throw invalid(id, "no JAIL tile");
+
+        double houseMultiplier = doubleValue(id, p, "rent.houseMultiplier");
+        int hotelMultiplier = intValue(id, p, "rent.hotelMultiplier", 1, 1000);
+        int monopolyMultiplier = intValue(id, p, "rent.monopolyMultiplier", 1, 1000);
+        boolean buildOnFixedRent = booleanValue(id, p, "build.railroadsAndUtilities");
+        return new BoardDefinition(tiles, taxes, jailTile, maxHouses, houseMultiplier, hotelMultiplier, monopolyMultiplier,
+                buildOnFixedRent);
+    }
+
+    // --- خواندن مقادیر با پیام خطای دقیق ---
+
+    private static int intValue(String id, Properties p, String key, int min, int max) {
+        String value = p.getProperty(key);
+        if (value == null) throw invalid(id, "missing " + key);
+        return parse(id, key, value, min, max);
+    }
+
+    private static boolean booleanValue(String id, Properties p, String key) {
+        String value = p.getProperty(key);
+        if (value == null) throw invalid(id, "missing " + key);
+        switch (value.trim()) {
+            case "true": return true;
+            case "false": return false;
+            default: throw invalid(id, key + ": expected true or false: " + value);
+        }
+    }
+
+    private static double doubleValue(String id, Properties p, String key) {
+        String value = p.getProperty(key);
+        if (value == null) throw invalid(id, "missing " + key);
+        try {
+            double d = Double.parseDouble(value.trim());
+            if (d < 1) throw invalid(id, key + " must be >= 1");
+            return d;
+        } catch (NumberFormatException e) {
+            throw invalid(id, key + ": not a number: " + value);
+        }
+    }
+
+    private static int parse(String id, String key, String value, int min, int max) {
+        try {
+            int n = Integer.parseInt(value.trim());
+            if (n < min || n > max) throw invalid(id, key + " out of range [" + min + ", " + max + "]: " + n);
+            return n;
+        } catch (NumberFormatException e) {
+            throw invalid(id, key + ": not a number: " + value);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String id, String message) {
+        return new IllegalArgumentException("Ruleset '" + id + "': " + message);
+    }
+
+    public String getName() { return name; }
+    public int getMaxPlayers() { return maxPlayers; }
+    public int getStartingMoney() { return startingMoney; }
+    public int getGoReward() { return goReward; }
+    public int getJailFine() { return jailFine; }
+    public int getMaxJailTurns() { return maxJailTurns; }
+    public int getMaxHouses() { return maxHouses; }
+    // true: دسته کارت از نوع خانه (CHANCE یا COMMUNITY_CHEST)؛ false: روی هر خانه کارت، یکی از دو دسته به تصادف
+    public boolean isDeckByTile() { return deckByTile; }
+    public BoardDefinition getBoard() { return board; }
+    Card[] getChanceCards() { return chanceCards; }
+    Card[] getCommunityCards() { return communityCards; }
+}
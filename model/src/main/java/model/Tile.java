@@ -15,10 +15,4 @@ public class Tile {
     public int getId() { return id; }
     public String getName() { return name; }
     public TileType getType() { return type; }
-
-    // اگر متدی مثل reset دارید که در Property پیاده‌سازی شده،
-    // در اینجا باید یک نسخه خالی از آن داشته باشید تا ارور ندهد.
-    public void reset() {
-        // بدنه خالی: برای خانه‌های معمولی (مثل GO یا Parking) کاری انجام نمی‌دهد
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package model;
+
+import ds.stack.LongStack;
+
+/**
+ * لاگ undo فقط برای کلمه‌های BoardState
+ * هر تغییر یک عدد long است: [اندیس کلمه در BoardState ۳۲ بیت][مقدار قبلی ۳۲ بیت]
+ * فقط وقتی checkpoint باز است چیزی ثبت می‌شود؛ در بازی عادی هزینه هر نوشتن یک مقایسه است.
+ * rollback رکوردها را به ترتیب معکوس برمی‌گرداند: مالکیت، ساختمان، رهن و کلمه‌های بازیکن
+ * (پول، موقعیت، زندان، کارت‌های آزادی، ارزش دارایی) برمی‌گردند و درخت دارایی و ایندکس املاک بی‌مالک هم‌گام می‌شوند.
+ * هر چیزی بیرون از BoardState برنمی‌گردد: ترتیب دسته کارت‌ها، نوبت و تاس‌های جفت در TurnManager،
+ * گراف تراکنش‌ها، رویدادهای GameRecorder، پیام‌های فرستاده‌شده و رده‌بندی. پس این لاگ برای لغو
+ * نوشتن‌های مستقیم روی مدل است، نه برای امتحان یک دستور GameEngine.
+ */
+public class UndoLog {
+    private final LongStack records;
+    private int depth; // تعداد checkpoint های باز
+
+    public UndoLog() {
+        this.records = new LongStack(256);
+        this.depth = 0;
+    }
+
+    public boolean isRecording() {
+        return depth > 0;
+    }
+
+    void record(int index, int oldValue) {
+        if (depth == 0) return;
+        records.push(((long) index << 32) | (oldValue & 0xFFFFFFFFL));
+    }
+
+    /**
+     * شروع ثبت تغییرات؛ مقدار برگشتی را به rollback یا commit بدهید
+     */
+    public int checkpoint() {
+        depth++;
+        return records.size();
+    }
+
+    /**
+     * پذیرفتن تغییرات از checkpoint به بعد
+     */
+    public void commit(int mark) {
+        if (depth == 0) return;
+        depth--;
+        if (depth == 0) records.clear();
+    }
+
+    /**
+     * برگرداندن همه تغییرات بعد از mark به ترتیب معکوس
+     */
+    public void rollback(int mark, GameState state) {
+        if (depth == 0) return;
+        BoardState board = state.getBoardState();
+        while (records.size() > mark) {
+            long r = records.pop();
+            int index = (int) (r >>> 32);
+            int current = board.read(index);
+            board.restore(index, (int) r);
+            if (board.isTileIndex(index)) state.syncAssetTrees(index, BoardState.ownerOf(current));
+        }
+        depth--;
+    }
+}
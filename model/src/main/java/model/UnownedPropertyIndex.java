@@ -0,0 +1,67 @@
+package model;
+
+import ds.tree.MyBST;
+import ds.tree.TreeNode;
+
+import java.util.function.Consumer;
+
+/**
+ * ایندکس املاک بی‌مالک مرتب‌شده بر اساس قیمت
+ * کلید درخت = قیمت * 64 + شناسه خانه؛ پس املاک هم‌قیمت (مثل راه‌آهن‌ها) با هم تداخل ندارند
+ * و ترتیب کلیدها همان ترتیب قیمت است.
+ * BoardState هنگام تغییر مالک (setOwner و rollback) از طریق هوک گذرای unownedIndex این ایندکس را به‌روز می‌کند.
+ */
+public class UnownedPropertyIndex {
+    private static final int TILE_BITS = 6;
+    private static final int TILE_MASK = (1 << TILE_BITS) - 1;
+
+    private final MyBST byPrice;
+
+    public UnownedPropertyIndex() {
+        this.byPrice = new MyBST();
+    }
+
+    private static int key(Property property) {
+        return (property.getPrice() << TILE_BITS) | property.getId();
+    }
+
+    // بزرگ‌ترین کلید با قیمت حداکثر budget؛ budget بالای ۲^۲۵ بعد از شیفت سرریز و منفی می‌شد،
+    // پس اول به بیشترین قیمت قابل نمایش محدود می‌شود (قیمت‌ها در Ruleset حداکثر ۲^۲۴ هستند)
+    private static int upperKey(int budget) {
+        return (Math.min(budget, Integer.MAX_VALUE >> TILE_BITS) << TILE_BITS) | TILE_MASK;
+    }
+
+    void add(Property property) {
+        byPrice.put(key(property), property);
+    }
+
+    void remove(Property property) {
+        byPrice.delete(key(property));
+    }
+
+    /**
+     * پیمایش املاک بی‌مالک با قیمت حداکثر budget، از ارزان به گران: O(log n + k)
+     */
+    public void forEachAffordable(int budget, Consumer<Property> visitor) {
+        if (budget < 0) return;
+        byPrice.range(Integer.MIN_VALUE, upperKey(budget), node -> visitor.accept((Property) node.data));
+    }
+
+    /**
+     * گران‌ترین ملک بی‌مالکی که با budget قابل خرید است (یا null)
+     */
+    public Property mostExpensiveAffordable(int budget) {
+        if (budget < 0) return null;
+        TreeNode node = byPrice.floor(upperKey(budget));
+        return node == null ? null : (Property) node.data;
+    }
+
+    public Property cheapest() {
+        TreeNode node = byPrice.first();
+        return node == null ? null : (Property) node.data;
+    }
+
+    public int size() {
+        return byPrice.size();
+    }
+}
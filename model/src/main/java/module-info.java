@@ -0,0 +1,9 @@
+/**
+ * صفحه، قوانین، کارت‌ها و وضعیت بازی
+ * rulesets و cards.txt به‌عنوان منبع همین ماژول خوانده می‌شوند.
+ */
+module monopoly.model {
+    requires transitive monopoly.ds;
+
+    exports model;
+}
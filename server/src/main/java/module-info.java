@@ -0,0 +1,14 @@
+/**
+ * سرور سوکت، اتاق‌ها و نقطه متریک‌ها؛ بدون JavaFX
+ * java -p <module path> -m monopoly.server/server.ServerMain
+ */
+module monopoly.server {
+    requires monopoly.engine;
+    requires jdk.jfr;
+    requires jdk.httpserver;
+    requires java.management;
+
+    // رابط‌های MXBean سرور باید برای JMX قابل دسترسی باشند؛ JMX از یک ماژول بی‌نام reflection می‌کند،
+    // پس export محدود به java.management کافی نیست
+    exports server;
+}
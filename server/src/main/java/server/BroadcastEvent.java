@@ -0,0 +1,33 @@
+package server;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * رویداد JFR برای پخش یک پیام به کلاینت‌های یک اتاق (صف کردن در outbox هر کلاینت، نه نوشتن روی سوکت)
+ */
+@Name("monopoly.Broadcast")
+@Label("Broadcast")
+@Category({"Monopoly", "Server"})
+@Description("A message fanned out to the clients of a room")
+@StackTrace(false)
+class BroadcastEvent extends Event {
+    @Label("Message Type")
+    String messageType;
+
+    @Label("Recipients")
+    int recipients;
+
+    @Label("Bytes Per Recipient")
+    @DataAmount
+    int bytes;
+
+    @Label("Trace Id")
+    @Description("Correlation id of the command that produced the message, 0 if none")
+    long traceId;
+}
@@ -0,0 +1,163 @@
+package server;
+
+import ds.queue.MpscQueue;
+import engine.CommandTrace;
+import engine.GameEngine;
+import engine.ServerMetrics;
+import engine.SlowTraceBuffer;
+import utils.Log;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.util.concurrent.locks.LockSupport;
+
+public class ClientHandler extends Thread {
+    private static final int OUTBOX_CAPACITY = 4096;
+    private static final int WRITE_BATCH = 256;
+
+    private Socket socket;
+    private int playerId;
+    private GameEngine gameEngine;
+    private ClientRegistry registry; // کلاینت‌های اتاق همین بازیکن
+    private BufferedWriter out;
+    private BufferedReader in;
+
+    // پیام‌های خروجی از هر تردی (broadcast، پاسخ دستور) بدون قفل در این صف قرار می‌گیرند
+    // و ترد نویسنده آن‌ها را به‌صورت دسته‌ای روی سوکت می‌نویسد
+    private final MpscQueue outbox;
+    private final Thread writer;
+    private volatile boolean connected;
+    private final ServerMetrics metrics = ServerMetrics.getInstance();
+    private final SlowTraceBuffer slowTraces = SlowTraceBuffer.getInstance();
+
+    // پیام‌های trace‌دار دسته فعلی نویسنده؛ زمان تحویلشان بعد از flush ثبت می‌شود (فقط ترد نویسنده)
+    private final Object[] tracedBatch = new Object[WRITE_BATCH];
+    private int tracedCount;
+
+    public ClientHandler(Socket socket, int playerId, GameEngine gameEngine, ClientRegistry registry) {
+        this.socket = socket;
+        this.playerId = playerId;
+        this.gameEngine = gameEngine;
+        this.registry = registry;
+        this.outbox = new MpscQueue(OUTBOX_CAPACITY);
+        this.writer = new Thread(this::writeLoop, "client-writer-" + gameEngine.getRoomId() + "-" + playerId);
+        this.writer.setDaemon(true);
+        setName("client-reader-" + gameEngine.getRoomId() + "-" + playerId); // در JFR/JMC قابل تشخیص باشد
+        this.connected = true;
+    }
+
+    public void run() {
+        metrics.connectionOpened();
+        try {
+            out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+            writer.start();
+
+            sendMessage("WELCOME Player " + playerId);
+
+            String inputLine;
+            while ((inputLine = in.readLine()) != null) {
+                if (!slowTraces.isEnabled()) {
+                    Log.debug(gameEngine.getRoomId(), "Player {} sent: {}", playerId, inputLine);
+                    sendMessage(gameEngine.executeCommand(playerId, inputLine));
+                    continue;
+                }
+
+                // هر دستور یک شناسه همبستگی می‌گیرد؛ خود trace به‌عنوان پاسخ در outbox قرار می‌گیرد
+                CommandTrace trace = new CommandTrace(gameEngine.getRoomId(), playerId, inputLine);
+                Log.debug(gameEngine.getRoomId(), "Player {} sent (trace {}): {}", playerId, trace.getId(), inputLine);
+                trace.setResponse(gameEngine.executeCommand(playerId, inputLine, trace));
+                enqueue(trace);
+            }
+        } catch (IOException e) {
+            Log.info(gameEngine.getRoomId(), "Player {} disconnected.", playerId);
+        } finally {
+            metrics.connectionClosed();
+            disconnect();
+        }
+
+    }
+
+    // از هر دو ترد صدا زده می‌شود؛ بستن سوکت readLine ترد خواننده را هم آزاد می‌کند
+    private void disconnect() {
+        connected = false;
+        registry.unregister(this);
+        LockSupport.unpark(writer);
+        try {
+            socket.close();
+        } catch (IOException e) {
+            Log.error(gameEngine.getRoomId(), "Socket close failed", e);
+        }
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public void sendMessage(String msg) {
+        enqueue(msg);
+    }
+
+    // msg: String، OutboundMessage (پیام همگانی trace‌دار) یا CommandTrace (پاسخ trace‌دار)
+    void enqueue(Object msg) {
+        if (!connected) return;
+        if (!outbox.offer(msg)) {
+            // کلاینت کند است؛ ترد فرستنده (معمولاً موتور بازی) نباید منتظر بماند
+            metrics.messageDropped();
+            Log.warn(gameEngine.getRoomId(), "Outbox full, dropped message for player {}", playerId);
+            return;
+        }
+        LockSupport.unpark(writer);
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                int written = outbox.drain(this::write, WRITE_BATCH);
+                if (written > 0) {
+                    out.flush();
+                    metrics.messagesSent(written);
+                    if (tracedCount > 0) completeTraces();
+                    continue;
+                }
+                if (!connected) break;
+                LockSupport.park(this);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            Log.info(gameEngine.getRoomId(), "Write to player {} failed.", playerId);
+            disconnect();
+        }
+    }
+
+    private void completeTraces() {
+        long now = System.nanoTime();
+        for (int i = 0; i < tracedCount; i++) {
+            Object msg = tracedBatch[i];
+            if (msg instanceof CommandTrace) ((CommandTrace) msg).responseWritten(now, slowTraces);
+            else ((OutboundMessage) msg).trace.delivered(playerId, now, slowTraces);
+            tracedBatch[i] = null;
+        }
+        tracedCount = 0;
+    }
+
+    private void write(Object msg) {
+        String text;
+        if (msg instanceof String) {
+            text = (String) msg;
+        } else {
+            text = msg instanceof CommandTrace ? ((CommandTrace) msg).getResponse() : ((OutboundMessage) msg).text;
+            tracedBatch[tracedCount++] = msg;
+        }
+        try {
+            out.write(text);
+            out.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
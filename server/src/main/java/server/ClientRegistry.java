@@ -0,0 +1,96 @@
+package server;
+
+import ds.map.IntIntMap;
+import engine.BroadcastSink;
+import engine.CommandTrace;
+
+/**
+ * فهرست کلاینت‌های متصل به روش copy-on-write
+ * هر تغییر (اتصال/قطع) یک آرایه و ایندکس تازه می‌سازد و با یک نوشتن volatile منتشر می‌کند؛
+ * broadcast و جستجوی شناسه بدون قفل روی آخرین نسخه منتشرشده کار می‌کنند و
+ * هیچ‌وقت منتظر ثبت کلاینت جدید نمی‌مانند.
+ */
+public class ClientRegistry implements BroadcastSink {
+    private static final ClientHandler[] EMPTY = new ClientHandler[0];
+
+    // نسخه تغییرناپذیر فهرست؛ فقط به‌صورت کامل جایگزین می‌شود
+    private static final class Snapshot {
+        final ClientHandler[] clients;
+        final IntIntMap indexById; // playerId -> اندیس در clients
+
+        Snapshot(ClientHandler[] clients) {
+            this.clients = clients;
+            this.indexById = new IntIntMap(clients.length, -1);
+            for (int i = 0; i < clients.length; i++) indexById.put(clients[i].getPlayerId(), i);
+        }
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(EMPTY);
+    private final Runnable onEmpty; // بعد از خروج آخرین کلاینت، بیرون از قفل
+
+    public ClientRegistry(Runnable onEmpty) {
+        this.onEmpty = onEmpty;
+    }
+
+    public synchronized void register(ClientHandler client) {
+        ClientHandler[] current = snapshot.clients;
+        ClientHandler[] next = new ClientHandler[current.length + 1];
+        System.arraycopy(current, 0, next, 0, current.length);
+        next[current.length] = client;
+        snapshot = new Snapshot(next);
+    }
+
+    public boolean unregister(ClientHandler client) {
+        boolean empty;
+        synchronized (this) {
+            ClientHandler[] current = snapshot.clients;
+            int index = snapshot.indexById.get(client.getPlayerId());
+            if (index < 0 || current[index] != client) return false;
+
+            ClientHandler[] next = new ClientHandler[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            snapshot = new Snapshot(next);
+            empty = next.length == 0;
+        }
+        if (empty) onEmpty.run();
+        return true;
+    }
+
+    public ClientHandler get(int playerId) {
+        Snapshot s = snapshot;
+        int index = s.indexById.get(playerId);
+        return index < 0 ? null : s.clients[index];
+    }
+
+    @Override
+    public void broadcast(String msg) {
+        broadcast(msg, null);
+    }
+
+    /**
+     * پیام به همه کلاینت‌ها؛ اگر trace داشته باشد یک OutboundMessage مشترک در outbox همه قرار می‌گیرد
+     */
+    @Override
+    public void broadcast(String msg, CommandTrace trace) {
+        BroadcastEvent event = new BroadcastEvent();
+        event.begin();
+        ClientHandler[] clients = snapshot.clients;
+        Object outbound = trace == null ? msg : new OutboundMessage(msg, trace);
+        for (ClientHandler client : clients) {
+            client.enqueue(outbound);
+        }
+        if (event.shouldCommit()) {
+            int colon = msg.indexOf(':');
+            event.messageType = colon < 0 ? msg : msg.substring(0, colon);
+            event.recipients = clients.length;
+            event.bytes = msg.length() + 1; // پیام‌ها ASCII هستند؛ +۱ برای خط جدید
+            event.traceId = trace == null ? 0 : trace.getId();
+            event.commit();
+        }
+    }
+
+    public int size() {
+        return snapshot.clients.length;
+    }
+}
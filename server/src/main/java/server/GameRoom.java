@@ -0,0 +1,94 @@
+package server;
+
+import engine.GameEngine;
+import engine.TurnManager;
+import model.GameState;
+import model.Player;
+import utils.Log;
+
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * یک اتاق بازی: وضعیت، موتور و فهرست کلاینت‌های خودش
+ * پیام‌های همگانی موتور فقط به کلاینت‌های همین اتاق می‌روند، پس اتاق‌ها مستقل از هم اجرا می‌شوند.
+ * شناسه بازیکن‌ها در هر اتاق از ۱ شروع می‌شود.
+ * اتاق با GAME_OVER یا خروج آخرین بازیکنِ بازیِ شروع‌شده بسته می‌شود و از سرور و رده‌بندی بیرون می‌رود.
+ */
+public class GameRoom {
+    private final GameState gameState;
+    private final GameEngine engine;
+    private final ClientRegistry clients;
+    private final int maxPlayers;
+    private volatile int joined; // فقط ترد accept می‌نویسد؛ تردهای کلاینت برای بستن اتاق می‌خوانند
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public GameRoom(GameState gameState) {
+        this.gameState = gameState;
+        this.maxPlayers = gameState.getRuleset().getMaxPlayers();
+        this.clients = new ClientRegistry(this::lastClientLeft);
+        this.engine = new GameEngine(new TurnManager(maxPlayers), gameState, clients);
+        this.engine.setOnGameOver(this::close);
+    }
+
+    /**
+     * اتصال یک کلاینت جدید به اتاق؛ وقتی اتاق پر شود بازی شروع می‌شود
+     */
+    public ClientHandler join(Socket socket) {
+        // شناسه بازیکن از تعداد ورودها گرفته می‌شود، نه اندازه فهرست (که با قطع اتصال کم می‌شود)
+        // ثبت قبل از شمردن: اتاقی که پر دیده شود بازیکن آخرش را هم در فهرست دارد
+        int playerId = joined + 1;
+        ClientHandler handler = new ClientHandler(socket, playerId, engine, clients);
+        clients.register(handler);
+        joined = playerId;
+        handler.start();
+
+        gameState.addPlayer(playerId, "Player " + playerId);
+        Log.info(engine.getRoomId(), "Player {} connected.", playerId);
+
+        if (joined == maxPlayers) start();
+        return handler;
+    }
+
+    private void start() {
+        // زیر قفل موتور تا دستوری که زودتر رسیده بین GAME_STARTED و TURN:1 اجرا نشود
+        synchronized (engine) {
+            announceStart();
+        }
+        Log.info(engine.getRoomId(), "Room started with {} players", maxPlayers);
+    }
+
+    private void announceStart() {
+        gameState.startGame();
+        clients.broadcast("GAME_STARTED");
+        for (int i = 1; i <= maxPlayers; i++) {
+            Player p = gameState.getPlayer(i);
+            clients.broadcast("STATS:" + p.getId() + ":" + p.getName() + ":" + p.getMoney() + ":" + p.getPosition() + ":" + p.getNetWorth());
+        }
+        clients.broadcast("TURN:1");
+    }
+
+    // اتاقی که هنوز منتظر بازیکن است باز می‌ماند؛ ترد accept همچنان به آن بازیکن می‌فرستد
+    private void lastClientLeft() {
+        if (isFull() && clients.size() == 0) close();
+    }
+
+    /**
+     * خروج اتاق از فهرست سرور و پاک شدن بازیکنانش از رده‌بندی؛ فقط بار اول اثر دارد
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) return;
+        engine.close();
+        ServerMain.retireRoom(this);
+        Log.info(engine.getRoomId(), "Room closed");
+    }
+
+    public boolean isFull() { return joined == maxPlayers; }
+    public int getRoomId() { return engine.getRoomId(); }
+    public GameEngine getEngine() { return engine; }
+    public ClientRegistry getClients() { return clients; }
+
+    public void broadcast(String msg) {
+        clients.broadcast(msg);
+    }
+}
@@ -0,0 +1,134 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import engine.ServerMetrics;
+import engine.SlowTraceBuffer;
+import utils.LatencyHistogram;
+import utils.Log;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * نقطه /metrics با قالب متنی Prometheus و /traces (traceهای کند SlowTraceBuffer) روی رابط loopback
+ * هر درخواست یک عکس لحظه‌ای می‌سازد؛ ترد HttpServer جداست و روی مسیر دستورها اثری ندارد.
+ *
+ * monopoly.metrics.port = پورت (پیش‌فرض 9404، مقدار 0 یا منفی یعنی غیرفعال)
+ */
+public class MetricsHttpServer {
+    public static final int DEFAULT_PORT = 9404;
+
+    // مرز سطل‌های Prometheus بر حسب نانوثانیه (از ۱ میکروثانیه تا ۱ ثانیه)
+    private static final long[] BUCKETS_NANOS = {
+            1_000, 5_000, 10_000, 50_000, 100_000, 500_000,
+            1_000_000, 5_000_000, 10_000_000, 50_000_000, 100_000_000, 1_000_000_000
+    };
+
+    private final ServerMetrics metrics;
+    private final SlowTraceBuffer traces;
+    private HttpServer server;
+
+    public MetricsHttpServer(ServerMetrics metrics, SlowTraceBuffer traces) {
+        this.metrics = metrics;
+        this.traces = traces;
+    }
+
+    public static int configuredPort() {
+        return Integer.getInteger("monopoly.metrics.port", DEFAULT_PORT);
+    }
+
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> respond(exchange, render()));
+        server.createContext("/traces", exchange -> respond(exchange, traces.dump()));
+        server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "metrics-http");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.start();
+        Log.info(Log.NO_TAG, "Metrics available on http://localhost:{}/metrics", port);
+    }
+
+    public void stop() {
+        if (server != null) server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    String render() {
+        StringBuilder sb = new StringBuilder(16 * 1024);
+
+        gauge(sb, "monopoly_connections", "Connected clients", metrics.getConnections());
+        gauge(sb, "monopoly_rooms", "Open game rooms", ServerMain.getRoomCount());
+        counter(sb, "monopoly_messages_sent_total", "Messages written to client sockets", metrics.getMessagesSent());
+        counter(sb, "monopoly_messages_dropped_total", "Messages dropped because a client outbox was full", metrics.getMessagesDropped());
+
+        sb.append("# HELP monopoly_commands_total Commands executed\n");
+        sb.append("# TYPE monopoly_commands_total counter\n");
+        for (int op = 0; op < ServerMetrics.OPCODES.length; op++) {
+            ServerMetrics.CommandStats stats = metrics.getCommandStats(op);
+            sb.append("monopoly_commands_total{opcode=\"").append(stats.getOpcode()).append("\"} ")
+                    .append(stats.getCount()).append('\n');
+        }
+
+        sb.append("# HELP monopoly_command_errors_total Commands answered with ERROR\n");
+        sb.append("# TYPE monopoly_command_errors_total counter\n");
+        for (int op = 0; op < ServerMetrics.OPCODES.length; op++) {
+            ServerMetrics.CommandStats stats = metrics.getCommandStats(op);
+            sb.append("monopoly_command_errors_total{opcode=\"").append(stats.getOpcode()).append("\"} ")
+                    .append(stats.getErrors()).append('\n');
+        }
+
+        // هیستوگرام‌ها فقط دستورهای نمونه را دارند (ServerMetrics)؛ _count آن‌ها تعداد نمونه‌هاست نه دستورها
+        histogram(sb, "monopoly_command_lock_wait_seconds", "Time waiting for the room engine lock", 0);
+        histogram(sb, "monopoly_command_exec_seconds", "Command execution time inside the engine", 1);
+        histogram(sb, "monopoly_command_fanout_seconds", "Time spent broadcasting the messages of one command", 2);
+        return sb.toString();
+    }
+
+    private void histogram(StringBuilder sb, String name, String help, int which) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" histogram\n");
+        for (int op = 0; op < ServerMetrics.OPCODES.length; op++) {
+            ServerMetrics.CommandStats stats = metrics.getCommandStats(op);
+            LatencyHistogram h = which == 0 ? stats.getLockWait() : which == 1 ? stats.getExec() : stats.getFanout();
+            String label = "{opcode=\"" + stats.getOpcode() + "\"";
+
+            // count پیش از سطل‌ها خوانده می‌شود تا +Inf هرگز کمتر از سطل‌های قبلی نباشد
+            long count = h.getCount();
+            long sum = h.getSum();
+            for (long bound : BUCKETS_NANOS) {
+                sb.append(name).append("_bucket").append(label).append(",le=\"").append(bound / 1e9).append("\"} ")
+                        .append(Math.min(h.countAtOrBelow(bound), count)).append('\n');
+            }
+            sb.append(name).append("_bucket").append(label).append(",le=\"+Inf\"} ").append(count).append('\n');
+            sb.append(name).append("_sum").append(label).append("} ").append(sum / 1e9).append('\n');
+            sb.append(name).append("_count").append(label).append("} ").append(count).append('\n');
+        }
+    }
+
+    private static void gauge(StringBuilder sb, String name, String help, long value) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" gauge\n");
+        sb.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void counter(StringBuilder sb, String name, String help, long value) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" counter\n");
+        sb.append(name).append(' ').append(value).append('\n');
+    }
+}
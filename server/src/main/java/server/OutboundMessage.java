@@ -0,0 +1,17 @@
+package server;
+
+import engine.CommandTrace;
+
+/**
+ * پیام همگانی که در حین اجرای یک دستور trace‌شده تولید شده است
+ * یک نمونه بین outbox همه گیرنده‌ها مشترک است؛ ترد نویسنده هر گیرنده زمان تحویل را روی trace ثبت می‌کند.
+ */
+final class OutboundMessage {
+    final String text;
+    final CommandTrace trace;
+
+    OutboundMessage(String text, CommandTrace trace) {
+        this.text = text;
+        this.trace = trace;
+    }
+}
@@ -0,0 +1,45 @@
+package server;
+
+import engine.ServerMetrics;
+import engine.SlowTraceBuffer;
+import utils.Log;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * ثبت آمار سرور در MBeanServer پلتفرم (یک بار، هنگام شروع سرور)
+ * monopoly:type=Server، monopoly:type=Command,opcode=... و monopoly:type=SlowTraces
+ */
+final class ServerMBeans {
+    private ServerMBeans() {}
+
+    static void register(ServerMetrics metrics, SlowTraceBuffer traces) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(new ServerStats(metrics), new ObjectName("monopoly:type=Server"));
+            for (int op = 0; op < ServerMetrics.OPCODES.length; op++) {
+                ServerMetrics.CommandStats stats = metrics.getCommandStats(op);
+                server.registerMBean(stats, new ObjectName("monopoly:type=Command,opcode=" + stats.getOpcode()));
+            }
+            server.registerMBean(traces, new ObjectName("monopoly:type=SlowTraces"));
+        } catch (JMException e) {
+            Log.error(Log.NO_TAG, "JMX registration failed", e);
+        }
+    }
+
+    private static final class ServerStats implements ServerStatsMXBean {
+        private final ServerMetrics metrics;
+
+        ServerStats(ServerMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override public long getConnections() { return metrics.getConnections(); }
+        @Override public int getRooms() { return ServerMain.getRoomCount(); }
+        @Override public long getMessagesSent() { return metrics.getMessagesSent(); }
+        @Override public long getMessagesDropped() { return metrics.getMessagesDropped(); }
+    }
+}
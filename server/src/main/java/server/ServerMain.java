@@ -0,0 +1,157 @@
+package server;
+
+import engine.GameEngine;
+import engine.ServerMetrics;
+import engine.SlowTraceBuffer;
+import model.GameState;
+import model.Ruleset;
+import utils.Constants;
+import utils.Log;
+
+import jdk.jfr.FlightRecorder;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+public class ServerMain {
+    private static final int PORT = Constants.PORT;
+    private static final int BACKLOG = 1024; // اتصال‌های هم‌زمان زیاد هنگام شروع چند اتاق
+
+    // فهرست copy-on-write اتاق‌ها: ترد accept می‌نویسد و broadcast سراسری بدون قفل می‌خواند
+    private static volatile GameRoom[] rooms = new GameRoom[0];
+
+    // ruleset اتاق‌ها به نوبت از monopoly.rulesets (مثلاً standard,speed)؛ بدون آن همه اتاق‌ها monopoly.ruleset
+    private static final Ruleset[] RULESETS = loadRulesets();
+    private static int roomsOpened; // فقط ترد accept
+
+    public static void main(String[] args) {
+        GameRoom room = openRoom(newGame());
+        startMetrics();
+
+        try (ServerSocket serverSocket = new ServerSocket(PORT, BACKLOG)) {
+            Log.info(Log.NO_TAG, "Server started on port {}", PORT);
+
+            boolean firstAccept = true;
+            while (true) {
+                Socket clientSocket = serverSocket.accept();
+                long acceptedAt = System.currentTimeMillis();
+                clientSocket.setTcpNoDelay(true);
+
+                room.join(clientSocket);
+                if (firstAccept) {
+                    firstAccept = false;
+                    reportStartup(acceptedAt);
+                }
+                if (room.isFull()) room = openRoom(newGame());
+            }
+        } catch (IOException e) {
+            Log.error(Log.NO_TAG, "Server socket failed", e);
+        }
+    }
+
+    // JMX، HTTP متریک‌ها و اولین استفاده از رویدادهای JFR روی هم چند صد میلی‌ثانیه طول می‌کشند؛
+    // در پس‌زمینه و هم‌زمان با انتظار برای بازیکنان انجام می‌شوند تا شروع گوش دادن سرور و اولین اتاق معطل نشوند
+    private static void startMetrics() {
+        Thread init = new Thread(() -> {
+            GameEngine.registerEvents();
+            FlightRecorder.register(BroadcastEvent.class);
+
+            ServerMetrics metrics = ServerMetrics.getInstance();
+            SlowTraceBuffer traces = SlowTraceBuffer.getInstance();
+            ServerMBeans.register(metrics, traces);
+            int port = MetricsHttpServer.configuredPort();
+            if (port <= 0) return;
+            try {
+                new MetricsHttpServer(metrics, traces).start(port);
+            } catch (IOException e) {
+                // نبودن متریک نباید جلوی بازی را بگیرد
+                Log.error(Log.NO_TAG, "Metrics endpoint failed to start", e);
+            }
+        }, "metrics-init");
+        init.setDaemon(true);
+        init.start();
+    }
+
+    // زمان شروع JVM تا اولین اتصال پذیرفته‌شده و RSS در همان لحظه؛ معیار مقایسه تصویر jlink/AppCDS با اجرای معمولی
+    // (زمان شروع از RuntimeMXBean است؛ زمان شروع پروسه در /proc دقت کافی ندارد)
+    private static void reportStartup(long acceptedAt) {
+        long millis = acceptedAt - ManagementFactory.getRuntimeMXBean().getStartTime();
+        Log.info(Log.NO_TAG, "First connection accepted {} ms after JVM start, RSS {} KB", millis, residentKilobytes());
+    }
+
+    // VmRSS از /proc/self/status؛ روی سیستم‌عامل‌های بدون procfs مقدار -1
+    private static long residentKilobytes() {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new FileInputStream("/proc/self/status"), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring(6).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // فقط گزارش است
+        }
+        return -1;
+    }
+
+    // همه rulesetها هنگام شروع بارگذاری می‌شوند تا فایل خراب قبل از گوش دادن سرور معلوم شود
+    private static Ruleset[] loadRulesets() {
+        String ids = System.getProperty("monopoly.rulesets", System.getProperty("monopoly.ruleset", Ruleset.DEFAULT));
+        String[] names = ids.split(",");
+        Ruleset[] rulesets = new Ruleset[names.length];
+        for (int i = 0; i < names.length; i++) rulesets[i] = Ruleset.load(names[i].trim());
+        return rulesets;
+    }
+
+    /**
+     * ruleset اتاق شماره index (به ترتیب باز شدن، از صفر)
+     */
+    public static Ruleset rulesetFor(int index) {
+        return RULESETS[index % RULESETS.length];
+    }
+
+    private static GameState newGame() {
+        return GameState.newGame(rulesetFor(roomsOpened++));
+    }
+
+    private static synchronized GameRoom openRoom(GameState state) {
+        GameRoom room = new GameRoom(state);
+        GameRoom[] current = rooms;
+        GameRoom[] next = new GameRoom[current.length + 1];
+        System.arraycopy(current, 0, next, 0, current.length);
+        next[current.length] = room;
+        rooms = next;
+        return room;
+    }
+
+    // اتاق بسته‌شده از فهرست حذف می‌شود؛ شماره ruleset از roomsOpened است، پس کوچک شدن فهرست اثری ندارد
+    static synchronized void retireRoom(GameRoom room) {
+        GameRoom[] current = rooms;
+        int index = -1;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == room) index = i;
+        }
+        if (index < 0) return;
+
+        GameRoom[] next = new GameRoom[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        rooms = next;
+    }
+
+    public static int getRoomCount() {
+        return rooms.length;
+    }
+
+    // پیام سراسری به همه اتاق‌ها؛ پیام‌های بازی از BroadcastSink اتاق خودشان می‌روند
+    public static void broadcast(String msg) {
+        for (GameRoom room : rooms) room.broadcast(msg);
+    }
+}
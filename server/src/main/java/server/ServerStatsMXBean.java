@@ -0,0 +1,11 @@
+package server;
+
+/**
+ * آمار JMX کل سرور (monopoly:type=Server)
+ */
+public interface ServerStatsMXBean {
+    long getConnections();
+    int getRooms();
+    long getMessagesSent();
+    long getMessagesDropped();
+}
@@ -0,0 +1,163 @@
+package server;
+
+import utils.Constants;
+import utils.Log;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * اجرای آموزشی برای ساخت آرشیو AppCDS
+ * سرور را در همین پروسه بالا می‌آورد، یک اتاق را با بازیکن‌های اسکریپتی پر می‌کند و چند دور بازی می‌کند
+ * تا کلاس‌های مسیر اتصال، دستورها، broadcast، متریک‌ها و traceها بارگذاری شوند؛ بعد با System.exit
+ * خارج می‌شود تا JVM آرشیو را بنویسد (-XX:ArchiveClassesAtExit یا -XX:DumpLoadedClassList).
+ *
+ * هر بازیکن در نوبت خودش: ROLL، BUY، BUILD، MORTGAGE، UNMORTGAGE، TRADE و END
+ * (خطای دستورهای نامعتبر هم مسیر مهمی است و باید در آرشیو باشد)
+ *
+ * monopoly.training.turns = تعداد کل نوبت‌ها قبل از خروج (پیش‌فرض 200)
+ */
+public final class TrainingRun {
+    private static final String[] SCRIPT = {"ROLL", "BUY", "BUILD", "MORTGAGE", "UNMORTGAGE", null, "END"};
+    private static final int TRADE = 5;
+
+    private final int turns = Integer.getInteger("monopoly.training.turns", 200);
+    private final AtomicInteger played = new AtomicInteger();
+    private final int players = ServerMain.rulesetFor(0).getMaxPlayers(); // فقط اتاق اول بازی می‌شود
+
+    private TrainingRun() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Thread server = new Thread(() -> ServerMain.main(args), "training-server");
+        server.setDaemon(true);
+        server.start();
+
+        TrainingRun training = new TrainingRun();
+        training.run();
+        fetchMetrics();
+        Log.info(Log.NO_TAG, "Training run finished after {} turns", Math.min(training.played.get(), training.turns));
+        System.exit(0);
+    }
+
+    private void run() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < players; i++) {
+            Thread t = new Thread(() -> {
+                try {
+                    play();
+                } catch (IOException e) {
+                    Log.error(Log.NO_TAG, "Training player failed", e);
+                }
+                done.countDown();
+            }, "training-player-" + i);
+            t.setDaemon(true);
+            t.start();
+        }
+        // اولین بازیکنی که به سقف نوبت یا GAME_OVER برسد کافی است
+        done.await();
+    }
+
+    private void play() throws IOException {
+        try (Socket socket = connect()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            String myTurn = null;
+            int other = 1;
+            int step = -1;
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith("WELCOME Player ")) {
+                    String id = line.substring("WELCOME Player ".length());
+                    myTurn = "TURN:" + id;
+                    other = Integer.parseInt(id) % players + 1;
+                    continue;
+                }
+                if (line.startsWith("GAME_OVER:")) return;
+                if (line.equals(myTurn)) {
+                    if (played.incrementAndGet() > turns) return;
+                    step = 0;
+                    send(out, SCRIPT[step]);
+                    continue;
+                }
+                if (step < 0 || isBroadcast(line)) continue;
+
+                // پاسخ مستقیم دستور قبلی
+                if (++step == SCRIPT.length) {
+                    step = -1;
+                } else {
+                    send(out, step == TRADE ? "TRADE:" + other + ":10:0" : SCRIPT[step]);
+                }
+            }
+        }
+    }
+
+    // سرور در ترد دیگری بالا می‌آید؛ تا شروع گوش دادن دوباره تلاش کن
+    private static Socket connect() throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                Socket socket = new Socket("localhost", Constants.PORT);
+                socket.setTcpNoDelay(true);
+                return socket;
+            } catch (ConnectException e) {
+                if (attempt == 100) throw e;
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static void send(BufferedWriter out, String command) throws IOException {
+        out.write(command);
+        out.newLine();
+        out.flush();
+    }
+
+    private static boolean isBroadcast(String line) {
+        return line.startsWith("TURN:") || line.startsWith("MOVED:") || line.startsWith("STATS:")
+                || line.startsWith("LOG:") || line.startsWith("OWNER:") || line.startsWith("HOUSE:")
+                || line.startsWith("MORTGAGE_STATE:") || line.equals("GAME_STARTED");
+    }
+
+    // مسیر /metrics و /traces هم در آرشیو باشد؛ نقطه متریک در پس‌زمینه بالا می‌آید، پس تا آماده شدنش صبر کن
+    private static void fetchMetrics() throws InterruptedException {
+        int port = MetricsHttpServer.configuredPort();
+        if (port <= 0) return;
+        for (String path : new String[]{"/metrics", "/traces"}) {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    HttpURLConnection c = (HttpURLConnection) URI.create("http://localhost:" + port + path).toURL().openConnection();
+                    try (InputStream body = c.getInputStream()) {
+                        body.readAllBytes();
+                    }
+                    break;
+                } catch (ConnectException e) {
+                    if (attempt == 100) {
+                        Log.warn(Log.NO_TAG, "Training could not fetch metrics", e);
+                        return;
+                    }
+                    Thread.sleep(50);
+                } catch (IOException e) {
+                    Log.warn(Log.NO_TAG, "Training could not fetch metrics", e);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,121 +0,0 @@
-package model;
-
-import ds.list.LinkedList;
-import ds.list.Node;
-import ds.graph.MyGraph; // ایمپورت کلاس گراف
-import utils.Constants;
-
-public class GameState {
-    private static GameState instance;
-    private LinkedList board;
-    private LinkedList players;
-    private MyGraph transactionGraph; // گراف برای ثبت تراکنش‌ها
-    private boolean isGameStarted;
-
-    private GameState() {
-        players = new LinkedList();
-        board = new LinkedList();
-
-        // مقداردهی اولیه گراف با ظرفیت تعداد بازیکنان (مثلاً 4)
-        // اگر Constants.MAX_PLAYERS تعریف نشده، عدد 4 بگذارید
-        transactionGraph = new MyGraph(Constants.MAX_PLAYERS);
-
-        isGameStarted = false;
-        initBoard();
-    }
-
-    public static synchronized GameState getInstance() {
-        if (instance == null) instance = new GameState();
-        return instance;
-    }
-
-    private void initBoard() {
-        for (int i = 0; i < Constants.TOTAL_TILES; i++) {
-            TileType type = determineTileType(i);
-            String name = determineTileName(i);
-
-            if (type == TileType.PROPERTY) {
-                int price = (i + 1) * 10 + 50;
-                int rent = (i + 1) * 2;
-                String color = determineColor(i);
-                board.add(new Property(i, name, price, rent, color));
-            }
-            else if (type == TileType.RAILROAD) {
-                board.add(new Property(i, name, 200, 25, "BLACK"));
-            }
-            else if (type == TileType.UTILITY) {
-                board.add(new Property(i, name, 150, 20, "WHITE"));
-            }
-            else {
-                board.add(new Tile(i, name, type));
-            }
-        }
-    }
-
-    private String determineColor(int i) {
-        if (i == 1 || i == 3) return "BROWN";
-        if (i == 6 || i == 8 || i == 9) return "LIGHT_BLUE";
-        if (i == 11 || i == 13 || i == 14) return "PINK";
-        if (i == 16 || i == 18 || i == 19) return "ORANGE";
-        if (i == 21 || i == 23 || i == 24) return "RED";
-        if (i == 26 || i == 27 || i == 29) return "YELLOW";
-        if (i == 31 || i == 32 || i == 34) return "GREEN";
-        if (i == 37 || i == 39) return "DARK_BLUE";
-        return "NONE";
-    }
-
-    private TileType determineTileType(int i) {
-        if (i == 0) return TileType.GO;
-        if (i == 4) return TileType.TAX;
-        if (i == 38) return TileType.TAX;
-        if (i == 5 || i == 15 || i == 25 || i == 35) return TileType.RAILROAD;
-        if (i == 12 || i == 28) return TileType.UTILITY;
-        if (i == 10) return TileType.JAIL;
-        if (i == 20) return TileType.PARKING;
-        if (i == 30) return TileType.GO_TO_JAIL;
-        if (i == 2 || i == 17 || i == 33 || i == 7 || i == 22 || i == 36) return TileType.CHANCE;
-        return TileType.PROPERTY;
-    }
-
-    private String determineTileName(int index) {
-        String[] names = {
-                "GO", "Mediterranean Ave", "Community Chest", "Baltic Ave", "Income Tax", "Reading RR", "Oriental Ave", "Chance", "Vermont Ave", "Connecticut Ave",
-                "Jail", "St. Charles Place", "Electric Company", "States Ave", "Virginia Ave", "Penn. RR", "St. James Place", "Community Chest", "Tennessee Ave", "New York Ave",
-                "Free Parking", "Kentucky Ave", "Chance", "Indiana Ave", "Illinois Ave", "B. & O. RR", "Atlantic Ave", "Ventnor Ave", "Water Works", "Marvin Gardens",
-                "Go To Jail", "Pacific Ave", "North Carolina Ave", "Community Chest", "Pennsylvania Ave", "Short Line", "Chance", "Park Place", "Luxury Tax", "Boardwalk"
-        };
-        return (index >= 0 && index < names.length) ? names[index] : "Tile " + index;
-    }
-
-    public LinkedList getBoard() { return board; }
-
-    public void addPlayer(int id, String name) {
-        players.add(new Player(id, name, Constants.STARTING_MONEY));
-
-        // اضافه کردن بازیکن به عنوان یک گره در گراف تراکنش‌ها
-        transactionGraph.addNode(id, name);
-    }
-
-    public Player getPlayer(int id) {
-        Node current = players.getHead();
-        if (current == null) return null;
-
-        Node head = current;
-        do {
-            Player p = (Player) current.data;
-            if (p.getId() == id) {
-                return p;
-            }
-            current = current.next;
-        } while (current != head);
-        return null;
-    }
-
-    // متد جدید برای دسترسی به گراف (مورد نیاز GameEngine)
-    public MyGraph getTransactionGraph() {
-        return transactionGraph;
-    }
-
-    public boolean isGameStarted() { return isGameStarted; }
-    public void startGame() { isGameStarted = true; }
-}
\ No newline at end of file
@@ -1,66 +0,0 @@
-package server;
-
-import model.GameState;
-import utils.Constants;
-import ds.list.LinkedList;
-import ds.list.Node;
-
-import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
-
-public class ServerMain {
-    private static final int PORT = Constants.PORT;
-    private static final int MAX_PLAYERS = Constants.MAX_PLAYERS;
-
-
-    private static LinkedList connectedClients = new LinkedList();
-
-    public static void main(String[] args) {
-        GameState.getInstance();
-        TurnManager turnManager = new TurnManager(MAX_PLAYERS);
-        GameEngine gameEngine = new GameEngine(turnManager);
-
-        try (ServerSocket serverSocket = new ServerSocket(PORT)) {
-            System.out.println("Server started on port " + PORT);
-
-            while (connectedClients.size() < MAX_PLAYERS) {
-                Socket clientSocket = serverSocket.accept();
-
-                int pId = connectedClients.size() + 1;
-                ClientHandler handler = new ClientHandler(clientSocket, pId, gameEngine);
-
-                connectedClients.add(handler);
-                handler.start();
-
-                GameState.getInstance().addPlayer(pId, "Player " + pId);
-                System.out.println("Player " + pId + " connected.");
-
-                if (connectedClients.size() == MAX_PLAYERS) {
-                    GameState.getInstance().startGame();
-                    broadcast("GAME_STARTED");
-
-                    for (int i = 1; i <= MAX_PLAYERS; i++) {
-                        model.Player p = GameState.getInstance().getPlayer(i);
-                        broadcast("STATS:" + p.getId() + ":" + p.getName() + ":" + p.getMoney() + ":" + p.getPosition());
-                    }
-                    broadcast("TURN:1");
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    public static void broadcast(String msg) {
-        Node current = connectedClients.getHead();
-        if (current == null) return;
-
-        Node head = current;
-        do {
-            ClientHandler client = (ClientHandler) current.data;
-            client.sendMessage(msg);
-            current = current.next;
-        } while (current != head);
-    }
-}
\ No newline at end of file